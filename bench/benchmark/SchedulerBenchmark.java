@@ -0,0 +1,190 @@
+package benchmark;
+
+import algorithm.CancellationToken;
+import algorithm.ProgressListener;
+import algorithm.SchedulerParameters;
+import algorithm.metaheuristic.ACO;
+import algorithm.metaheuristic.GA;
+import algorithm.metaheuristic.SA;
+import algorithm.traditional.FCFS;
+import algorithm.traditional.MLFQ;
+import algorithm.traditional.PriorityNonPreemptive;
+import algorithm.traditional.PriorityPreemptive;
+import algorithm.traditional.RR;
+import algorithm.traditional.SJF;
+import algorithm.traditional.SRTF;
+import model.ProcessTable;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of every scheduler across workload sizes and distributions.
+ *
+ * The primary score is schedules per second. The "processes" secondary metric
+ * counts processes scheduled per second, i.e. 1e9 / (ns per process), and
+ * running with the gc profiler (as main does) adds the allocation rate.
+ *
+ * Each algorithm is benchmarked only at the sizes it can handle: the
+ * metaheuristics keep n x n matrices or evaluate thousands of full schedules
+ * per run, so they stop at smaller n. Sizes can be overridden with -p n=...
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Workload {
+        @Param({"10", "1000", "100000", "1000000"})
+        public int n;
+
+        @Param({"UNIFORM", "POISSON", "HEAVY_TAILED", "BATCH"})
+        public Workloads.Distribution distribution;
+
+        public ProcessTable table;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // Schedulers only overwrite the result columns, so one table serves every invocation
+            table = Workloads.generate(distribution, n);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class MediumWorkload {
+        @Param({"10", "1000", "100000"})
+        public int n;
+
+        @Param({"UNIFORM", "POISSON", "HEAVY_TAILED", "BATCH"})
+        public Workloads.Distribution distribution;
+
+        public ProcessTable table;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            table = Workloads.generate(distribution, n);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SmallWorkload {
+        @Param({"10", "1000"})
+        public int n;
+
+        @Param({"UNIFORM", "POISSON", "HEAVY_TAILED", "BATCH"})
+        public Workloads.Distribution distribution;
+
+        public ProcessTable table;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            table = Workloads.generate(distribution, n);
+        }
+    }
+
+    // Reported as a per-second rate next to the primary score
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Processed {
+        public long processes;
+    }
+
+    // ===== Traditional =====
+
+    @Benchmark
+    public ProcessTable fcfs(Workload w, Processed counter) {
+        FCFS.schedule(w.table);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    @Benchmark
+    public ProcessTable sjf(Workload w, Processed counter) {
+        SJF.schedule(w.table);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    @Benchmark
+    public ProcessTable srtf(Workload w, Processed counter) {
+        SRTF.schedule(w.table);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    @Benchmark
+    public ProcessTable priorityNonPreemptive(Workload w, Processed counter) {
+        PriorityNonPreemptive.schedule(w.table, true);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    @Benchmark
+    public ProcessTable priorityPreemptive(Workload w, Processed counter) {
+        PriorityPreemptive.schedule(w.table, true);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    @Benchmark
+    public ProcessTable roundRobin(MediumWorkload w, Processed counter) {
+        RR.schedule(w.table, 4);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    @Benchmark
+    public ProcessTable mlfq(Workload w, Processed counter) {
+        MLFQ.schedule(w.table, new int[]{2, 4, 8}, 100);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    // ===== Metaheuristics =====
+
+    // Search throughput only: no SJF/FCFS seeds and no stop at the lower bound, so every run
+    // does its full number of iterations whatever the workload, comparable across versions.
+    // The defaults are otherwise those of the 10-ant, 100-iteration ACO and one-island GA.
+    private static final SchedulerParameters SEARCH = SchedulerParameters.builder()
+            .heuristicSeeding(false)
+            .stopAtLowerBound(false)
+            .build();
+
+    @Benchmark
+    public ProcessTable aco(SmallWorkload w, Processed counter) {
+        ACO.schedule(w.table, SEARCH, new CancellationToken(), ProgressListener.NONE);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    @Benchmark
+    public ProcessTable ga(SmallWorkload w, Processed counter) {
+        GA.schedule(w.table, SEARCH, new CancellationToken(), ProgressListener.NONE);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    @Benchmark
+    public ProcessTable sa(MediumWorkload w, Processed counter) {
+        SA.schedule(w.table, SEARCH, new CancellationToken(), ProgressListener.NONE);
+        counter.processes += w.n;
+        return w.table;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SchedulerBenchmark.class.getSimpleName() + (args.length > 0 ? "." + args[0] : ""))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
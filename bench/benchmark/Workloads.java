@@ -0,0 +1,56 @@
+package benchmark;
+
+import model.ProcessTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic workloads for the benchmarks. Every generator is seeded, so the
+ * same (distribution, size) pair always produces the same table.
+ */
+public class Workloads {
+
+    public enum Distribution {
+        UNIFORM,        // arrivals spread evenly, bursts uniform in [1, 100]
+        POISSON,        // exponential inter-arrival gaps, bursts uniform in [1, 100]
+        HEAVY_TAILED,   // exponential inter-arrival gaps, Pareto-distributed bursts
+        BATCH           // everything arrives at time 0, bursts uniform in [1, 100]
+    }
+
+    private static final long SEED = 42L;
+    private static final int MAX_BURST = 100;
+    private static final int PRIORITY_LEVELS = 10;
+
+    public static ProcessTable generate(Distribution distribution, int n) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        ProcessTable table = new ProcessTable(n);
+
+        // Mean gap close to the mean burst keeps the CPU near full load
+        double meanGap = MAX_BURST / 2.0;
+        double arrival = 0;
+
+        for (int i = 0; i < n; i++) {
+            int burst;
+            switch (distribution) {
+                case UNIFORM:
+                    arrival = i * meanGap;
+                    burst = 1 + random.nextInt(MAX_BURST);
+                    break;
+                case POISSON:
+                    arrival += -meanGap * Math.log(1.0 - random.nextDouble());
+                    burst = 1 + random.nextInt(MAX_BURST);
+                    break;
+                case HEAVY_TAILED:
+                    arrival += -meanGap * Math.log(1.0 - random.nextDouble());
+                    // Pareto with shape 1.5 and scale 1, capped so completion times stay in int range
+                    burst = (int) Math.min(100_000, Math.ceil(1.0 / Math.pow(1.0 - random.nextDouble(), 1 / 1.5)));
+                    break;
+                default:
+                    burst = 1 + random.nextInt(MAX_BURST);
+                    break;
+            }
+            table.set(i, i + 1, (int) arrival, burst, random.nextInt(PRIORITY_LEVELS));
+        }
+        return table;
+    }
+}
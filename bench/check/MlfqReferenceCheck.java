@@ -0,0 +1,133 @@
+package check;
+
+import algorithm.traditional.MLFQ;
+import model.ProcessTable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compares MLFQ on one CPU with a tick-by-tick reference implementation of
+ * the same rules over random workloads, level quanta and boost intervals,
+ * including zero bursts. Prints the first mismatches and exits with status 1
+ * if any completion time differs.
+ *
+ *   java -cp "check-out:lib/*" check.MlfqReferenceCheck [configurations]
+ */
+public class MlfqReferenceCheck {
+
+    private static final long SEED = 7L;
+
+    public static void main(String[] args) {
+        int configurations = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        SplittableRandom random = new SplittableRandom(SEED);
+        int mismatches = 0;
+
+        for (int c = 0; c < configurations; c++) {
+            int n = 1 + random.nextInt(25);
+            int spread = 1 + random.nextInt(100);
+            ProcessTable workload = new ProcessTable(n);
+            for (int row = 0; row < n; row++) {
+                int burst = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(1 + random.nextInt(40));
+                workload.set(row, row + 1, random.nextInt(spread), burst, 0);
+            }
+            int[] quanta = new int[1 + random.nextInt(5)];
+            for (int l = 0; l < quanta.length; l++) quanta[l] = 1 + random.nextInt(8);
+            int boostInterval = random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(40);
+
+            ProcessTable result = workload.withOwnResults(false);
+            MLFQ.schedule(result, quanta, boostInterval, 1);
+            int[] expected = reference(workload, quanta, boostInterval);
+            for (int row = 0; row < n; row++) {
+                if (result.getCompletionTime(row) != expected[row]) {
+                    if (++mismatches <= 5) {
+                        System.out.println("quanta " + Arrays.toString(quanta) + " boost " + boostInterval + ": row "
+                                + row + " completes at " + result.getCompletionTime(row) + ", expected " + expected[row]);
+                    }
+                    break;
+                }
+            }
+        }
+
+        System.out.println(mismatches + " of " + configurations + " configurations differ");
+        if (mismatches > 0) System.exit(1);
+    }
+
+    /*
+     * One time unit per step: arrivals join the back of the top level, then the running
+     * process completes or, with its quantum used up, drops a level, then every boost interval
+     * everything goes back to the top level, then a higher level waiting preempts the running
+     * process to the front of its level, and finally the first process of the highest level runs.
+     */
+    static int[] reference(ProcessTable table, int[] quanta, int boostInterval) {
+        int n = table.size();
+        int levels = quanta.length;
+        int[] remaining = new int[n];
+        int[] level = new int[n];
+        int[] allotment = new int[n];
+        int[] completion = new int[n];
+        for (int row = 0; row < n; row++) remaining[row] = table.getBurstTime(row);
+
+        List<ArrayDeque<Integer>> queues = new ArrayList<>(levels);
+        for (int l = 0; l < levels; l++) queues.add(new ArrayDeque<>());
+
+        int[] byArrival = table.rowsByArrival();
+        int next = 0, completed = 0, running = -1;
+        for (int t = 0; completed < n; t++) {
+            while (next < n && table.getArrivalTime(byArrival[next]) <= t) {
+                int row = byArrival[next++];
+                if (remaining[row] == 0) {
+                    completion[row] = t;
+                    completed++;
+                    continue;
+                }
+                level[row] = 0;
+                allotment[row] = quanta[0];
+                queues.get(0).addLast(row);
+            }
+
+            if (running != -1 && (remaining[running] == 0 || allotment[running] == 0)) {
+                if (remaining[running] == 0) {
+                    completion[running] = t;
+                    completed++;
+                } else {
+                    level[running] = Math.min(level[running] + 1, levels - 1);
+                    allotment[running] = quanta[level[running]];
+                    queues.get(level[running]).addLast(running);
+                }
+                running = -1;
+            }
+
+            if (boostInterval > 0 && t > 0 && t % boostInterval == 0) {
+                for (int l = 1; l < levels; l++) {
+                    queues.get(0).addAll(queues.get(l));
+                    queues.get(l).clear();
+                }
+                for (int row : queues.get(0)) {
+                    level[row] = 0;
+                    allotment[row] = quanta[0];
+                }
+                if (running != -1) {
+                    level[running] = 0;
+                    allotment[running] = quanta[0];
+                }
+            }
+
+            int top = 0;
+            while (top < levels && queues.get(top).isEmpty()) top++;
+            if (running != -1 && top < levels && level[running] > top) {
+                queues.get(level[running]).addFirst(running);
+                running = -1;
+            }
+            if (running == -1 && top < levels) running = queues.get(top).pollFirst();
+            if (running != -1) {
+                remaining[running]--;
+                allotment[running]--;
+            }
+        }
+        return completion;
+    }
+}
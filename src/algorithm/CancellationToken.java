@@ -0,0 +1,19 @@
+package algorithm;
+
+/**
+ * Cooperative stop signal for a running search. The metaheuristics poll it
+ * between moves and, once it is cancelled, return the best schedule they have
+ * found so far instead of throwing.
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,53 @@
+package algorithm;
+
+import java.util.Arrays;
+
+/**
+ * How a metaheuristic search converged: after selected iterations (ACO
+ * iterations, GA generations, SA temperature steps or tempering rounds), the
+ * best fitness found so far and the mean fitness of the current population,
+ * ants or chains. Fitness is total turnaround time, lower is better.
+ *
+ * The curve holds at most a fixed number of points however long the search
+ * ran, evenly spaced over it, and always ends with the final iteration.
+ */
+public final class ConvergenceCurve {
+
+    private final long[] steps;
+    private final long[] best;
+    private final double[] mean;
+
+    public ConvergenceCurve(long[] steps, long[] best, double[] mean) {
+        if (steps.length != best.length || steps.length != mean.length) {
+            throw new IllegalArgumentException("columns must have the same length");
+        }
+        this.steps = steps.clone();
+        this.best = best.clone();
+        this.mean = mean.clone();
+    }
+
+    public int size() { return steps.length; }
+
+    // Iteration the point was taken after, counted from 1
+    public long getStep(int point) { return steps[point]; }
+    public long getBestFitness(int point) { return best[point]; }
+    public double getMeanFitness(int point) { return mean[point]; }
+
+    /*
+     * First recorded iteration at which the best fitness was within the given fraction of
+     * the final best (0.01 = within 1%), i.e. roughly how many iterations were needed.
+     */
+    public long stepsToReach(double fraction) {
+        if (steps.length == 0) return 0;
+        double threshold = best[best.length - 1] * (1 + fraction);
+        for (int i = 0; i < steps.length; i++) {
+            if (best[i] <= threshold) return steps[i];
+        }
+        return steps[steps.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return "ConvergenceCurve" + Arrays.toString(steps);
+    }
+}
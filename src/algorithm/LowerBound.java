@@ -0,0 +1,83 @@
+package algorithm;
+
+import algorithm.simulation.LongHeap;
+import model.ProcessTable;
+
+/**
+ * Lower bounds on the total turnaround time of any schedule of a workload on
+ * m identical CPUs, preemptive or not. The metaheuristics stop once their
+ * best schedule reaches the bound (it is then optimal) or comes within a
+ * given gap of it, and report how far above the bound they finished.
+ *
+ * Two bounds are combined, and the larger one is used:
+ * <ul>
+ *   <li>SRPT relaxation: whatever m CPUs do, one CPU m times as fast can
+ *   finish every process at least as early, and on a single CPU shortest
+ *   remaining processing time first minimises total turnaround. With one CPU
+ *   this is exactly the SRTF schedule.</li>
+ *   <li>No-wait bound: every process takes at least its burst from arrival to
+ *   completion. It wins when there are many CPUs and little contention.</li>
+ * </ul>
+ */
+public final class LowerBound {
+
+    private LowerBound() {}
+
+    public static long totalTurnaround(ProcessTable table, int cpuCount) {
+        return Math.max(srptRelaxation(table, cpuCount), totalBurst(table));
+    }
+
+    /*
+     * Total turnaround of SRPT on one CPU of speed m. Time is counted in 1/m units so that the
+     * fast CPU does one unit of work per tick and all arithmetic stays in integers; a schedule
+     * on more CPUs than processes never uses the extra ones, so m is capped at n. Preemptions
+     * only happen at arrivals, so this is O(n log n).
+     */
+    public static long srptRelaxation(ProcessTable table, int cpuCount) {
+        int n = table.size();
+        if (n == 0) return 0;
+        long m = Math.min(cpuCount, n);
+        int[] byArrival = table.rowsByArrival();
+        LongHeap ready = new LongHeap(n);
+
+        // The real total is an integer of at least sum(turnaround / m); it is kept as a quotient
+        // and a remainder so it cannot overflow where the scaled sum would
+        long quotient = 0, remainder = 0;
+        long time = 0;
+        int next = 0;
+        while (next < n || !ready.isEmpty()) {
+            if (ready.isEmpty()) time = Math.max(time, table.getArrivalTime(byArrival[next]) * m);
+            while (next < n && table.getArrivalTime(byArrival[next]) * m <= time) {
+                ready.push(LongHeap.pack(table.getBurstTime(byArrival[next]), next));
+                next++;
+            }
+
+            long shortest = ready.poll();
+            int remaining = LongHeap.key(shortest);
+            int position = LongHeap.row(shortest);
+            long nextArrival = next < n ? table.getArrivalTime(byArrival[next]) * m : Long.MAX_VALUE;
+            if (time + remaining <= nextArrival) {
+                time += remaining;
+                long turnaround = time - table.getArrivalTime(byArrival[position]) * m;
+                quotient += turnaround / m;
+                remainder += turnaround % m;
+                if (remainder >= m) {
+                    quotient++;
+                    remainder -= m;
+                }
+            } else {
+                // Preempted by the next arrival
+                ready.push(LongHeap.pack((int) (remaining - (nextArrival - time)), position));
+                time = nextArrival;
+            }
+        }
+        return remainder > 0 ? quotient + 1 : quotient;
+    }
+
+    // Sum of all bursts: the total turnaround if nobody ever waited
+    public static long totalBurst(ProcessTable table) {
+        long total = 0;
+        for (int row = 0; row < table.size(); row++) total += table.getBurstTime(row);
+        return total;
+    }
+}
@@ -0,0 +1,15 @@
+package algorithm;
+
+/**
+ * Receives progress reports from a running search, once per iteration,
+ * generation or temperature step. Calls come from the search's own threads.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    ProgressListener NONE = (fraction, bestFitness) -> { };
+
+    // fraction runs from 0 to 1 (the larger of work done and time limit used);
+    // bestFitness is the lowest total turnaround time found so far
+    void onProgress(double fraction, long bestFitness);
+}
@@ -0,0 +1,88 @@
+package algorithm;
+
+import model.Process;
+import model.ProcessTable;
+import model.Timeline;
+
+import java.util.List;
+
+/**
+ * Immutable outcome of one scheduler run: the execution order, per-process
+ * timings and aggregate metrics. Rows are those of the workload that was
+ * scheduled; {@link #getOrder(int)} gives the row run at each position.
+ */
+public final class ScheduleResult {
+
+    private final String algorithmName;
+    private final ProcessTable table;
+
+    private final double averageWaitingTime;
+    private final double averageTurnaroundTime;
+    private final int makespan;
+    private final double cpuUtilization;
+    private final SearchStats searchStats;
+
+    // Takes ownership of the table: it must be a result view nobody else writes to
+    public ScheduleResult(String algorithmName, ProcessTable table) {
+        this(algorithmName, table, null);
+    }
+
+    public ScheduleResult(String algorithmName, ProcessTable table, SearchStats searchStats) {
+        this.algorithmName = algorithmName;
+        this.table = table;
+        this.searchStats = searchStats;
+        this.averageWaitingTime = table.averageWaitingTime();
+        this.averageTurnaroundTime = table.averageTurnaroundTime();
+
+        int firstArrival = Integer.MAX_VALUE;
+        int lastCompletion = Integer.MIN_VALUE;
+        long busy = 0;
+        for (int i = 0; i < table.size(); i++) {
+            firstArrival = Math.min(firstArrival, table.getArrivalTime(i));
+            lastCompletion = Math.max(lastCompletion, table.getCompletionTime(i));
+            busy += table.getBurstTime(i);
+        }
+        this.makespan = table.size() == 0 ? 0 : lastCompletion - firstArrival;
+        this.cpuUtilization = makespan == 0 ? 0.0 : (double) busy / ((long) makespan * table.getCpuCount());
+    }
+
+    public String getAlgorithmName() { return algorithmName; }
+
+    public int size() { return table.size(); }
+
+    public int getPid(int row) { return table.getPid(row); }
+    public int getArrivalTime(int row) { return table.getArrivalTime(row); }
+    public int getBurstTime(int row) { return table.getBurstTime(row); }
+    public int getPriority(int row) { return table.getPriority(row); }
+
+    public int getCompletionTime(int row) { return table.getCompletionTime(row); }
+    public int getTurnaroundTime(int row) { return table.getTurnaroundTime(row); }
+    public int getWaitingTime(int row) { return table.getWaitingTime(row); }
+
+    // CPUs the schedule ran on, and the one each row finished on
+    public int getCpuCount() { return table.getCpuCount(); }
+    public int getCpu(int row) { return table.getCpu(row); }
+
+    // Row executed at the given position (completion order for preemptive schedulers)
+    public int getOrder(int position) { return table.getOrder(position); }
+
+    public double getAverageWaitingTime() { return averageWaitingTime; }
+    public double getAverageTurnaroundTime() { return averageTurnaroundTime; }
+
+    // Time from the first arrival to the last completion
+    public int getMakespan() { return makespan; }
+
+    // Fraction of the makespan's CPU time (over all CPUs) spent running processes
+    public double getCpuUtilization() { return cpuUtilization; }
+
+    // How the search ended, or null for schedulers that are not searches
+    public SearchStats getSearchStats() { return searchStats; }
+
+    // When each process ran, or null unless the run was made with recordTimeline set (or with metrics on)
+    public Timeline getTimeline() { return table.getTimeline(); }
+
+    // New Process objects in execution order, carrying the timings
+    public List<Process> toProcessList() {
+        return table.toOrderedList();
+    }
+}
@@ -0,0 +1,41 @@
+package algorithm;
+
+import model.ProcessTable;
+
+/**
+ * Common entry point for every scheduling algorithm, discovered through
+ * {@link SchedulerRegistry}.
+ *
+ * Implementations never modify the workload they are given: each run schedules
+ * its own result view of the table and returns an immutable ScheduleResult,
+ * so one workload can be shared by any number of concurrent runs.
+ */
+public interface Scheduler {
+
+    // Short identifier used on command lines, e.g. "RR"
+    String name();
+
+    // Human readable name used in reports and the GUI, e.g. "Round Robin"
+    String displayName();
+
+    // Whether the schedule depends on process priorities
+    default boolean usesPriority() {
+        return false;
+    }
+
+    ScheduleResult run(ProcessTable workload, SchedulerParameters parameters);
+
+    /*
+     * Like run(workload, parameters), but a search that sees the token cancelled stops early and
+     * returns the best schedule found so far. Schedulers that finish in one pass ignore the token.
+     */
+    default ScheduleResult run(ProcessTable workload, SchedulerParameters parameters, CancellationToken token) {
+        return run(workload, parameters);
+    }
+
+    // As above, reporting the progress of a search to the listener; one-pass schedulers never call it
+    default ScheduleResult run(ProcessTable workload, SchedulerParameters parameters, CancellationToken token,
+                               ProgressListener listener) {
+        return run(workload, parameters, token);
+    }
+}
@@ -0,0 +1,257 @@
+package algorithm;
+
+/**
+ * Immutable settings for a scheduler run. Each algorithm reads only the
+ * parameters it needs; everything has a default, so
+ * {@code SchedulerParameters.DEFAULTS} is a valid argument for any scheduler.
+ */
+public final class SchedulerParameters {
+
+    public static final SchedulerParameters DEFAULTS = builder().build();
+
+    // All schedulers
+    private final int cpuCount;
+
+    // Round Robin
+    private final int timeQuantum;
+
+    // Priority schedulers
+    private final boolean lowerNumberHigherPriority;
+
+    // Multi-level feedback queue; MLFQ keeps its non-empty levels in the bits of a long
+    private static final int MLFQ_MAX_LEVELS = Long.SIZE;
+    private final int[] mlfqQuanta;
+    private final int mlfqBoostInterval;
+
+    // ACO
+    private final int numAnts;
+    private final int maxIterations;
+    private final double alpha;
+    private final double beta;
+    private final double evaporationRate;
+
+    // GA island mode, elitism and fitness cache
+    private final int islandCount;
+    private final int migrationInterval;
+    private final int migrationSize;
+    private final Topology topology;
+    private final int eliteCount;
+    private final int fitnessCacheSize;
+
+    // SA parallel tempering
+    private final int temperingChains;
+    private final int temperingSwapInterval;
+
+    // Anytime stop conditions for ACO, GA and SA (0 = none)
+    private final long timeLimitMillis;
+    private final long targetFitness;
+    private final double gapTolerance;
+    private final boolean stopAtLowerBound;
+
+    // Starting points for ACO, GA and SA
+    private final boolean heuristicSeeding;
+    private final WarmStart warmStart;
+
+    // Whether results keep a Timeline of when each process ran
+    private final boolean recordTimeline;
+
+    // Points kept of a metaheuristic's convergence curve (0 = not recorded)
+    private final int convergenceSamples;
+
+    private SchedulerParameters(Builder b) {
+        this.timeQuantum = b.timeQuantum;
+        this.cpuCount = b.cpuCount;
+        this.lowerNumberHigherPriority = b.lowerNumberHigherPriority;
+        this.mlfqQuanta = b.mlfqQuanta.clone();
+        this.mlfqBoostInterval = b.mlfqBoostInterval;
+        this.numAnts = b.numAnts;
+        this.maxIterations = b.maxIterations;
+        this.alpha = b.alpha;
+        this.beta = b.beta;
+        this.evaporationRate = b.evaporationRate;
+        this.islandCount = b.islandCount;
+        this.migrationInterval = b.migrationInterval;
+        this.migrationSize = b.migrationSize;
+        this.topology = b.topology;
+        this.eliteCount = b.eliteCount;
+        this.fitnessCacheSize = b.fitnessCacheSize;
+        this.temperingChains = b.temperingChains;
+        this.temperingSwapInterval = b.temperingSwapInterval;
+        this.timeLimitMillis = b.timeLimitMillis;
+        this.targetFitness = b.targetFitness;
+        this.gapTolerance = b.gapTolerance;
+        this.stopAtLowerBound = b.stopAtLowerBound;
+        this.heuristicSeeding = b.heuristicSeeding;
+        this.warmStart = b.warmStart;
+        this.recordTimeline = b.recordTimeline;
+        this.convergenceSamples = b.convergenceSamples;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        Builder b = new Builder();
+        b.timeQuantum = timeQuantum;
+        b.cpuCount = cpuCount;
+        b.lowerNumberHigherPriority = lowerNumberHigherPriority;
+        b.mlfqQuanta = mlfqQuanta;
+        b.mlfqBoostInterval = mlfqBoostInterval;
+        b.numAnts = numAnts;
+        b.maxIterations = maxIterations;
+        b.alpha = alpha;
+        b.beta = beta;
+        b.evaporationRate = evaporationRate;
+        b.islandCount = islandCount;
+        b.migrationInterval = migrationInterval;
+        b.migrationSize = migrationSize;
+        b.topology = topology;
+        b.eliteCount = eliteCount;
+        b.fitnessCacheSize = fitnessCacheSize;
+        b.temperingChains = temperingChains;
+        b.temperingSwapInterval = temperingSwapInterval;
+        b.timeLimitMillis = timeLimitMillis;
+        b.targetFitness = targetFitness;
+        b.gapTolerance = gapTolerance;
+        b.stopAtLowerBound = stopAtLowerBound;
+        b.heuristicSeeding = heuristicSeeding;
+        b.warmStart = warmStart;
+        b.recordTimeline = recordTimeline;
+        b.convergenceSamples = convergenceSamples;
+        return b;
+    }
+
+    public int getTimeQuantum() { return timeQuantum; }
+
+    // Number of identical CPUs sharing one global ready queue
+    public int getCpuCount() { return cpuCount; }
+    public boolean isLowerNumberHigherPriority() { return lowerNumberHigherPriority; }
+
+    // Time quantum of each MLFQ level, from the highest level (0) down; one level per entry
+    public int[] getMlfqQuanta() { return mlfqQuanta.clone(); }
+
+    // Every this many time units all MLFQ processes go back to the top level (0 = never)
+    public int getMlfqBoostInterval() { return mlfqBoostInterval; }
+
+    public int getNumAnts() { return numAnts; }
+    public int getMaxIterations() { return maxIterations; }
+    public double getAlpha() { return alpha; }
+    public double getBeta() { return beta; }
+    public double getEvaporationRate() { return evaporationRate; }
+
+    public int getIslandCount() { return islandCount; }
+    public int getMigrationInterval() { return migrationInterval; }
+    public int getMigrationSize() { return migrationSize; }
+    public Topology getTopology() { return topology; }
+    public int getEliteCount() { return eliteCount; }
+    public int getFitnessCacheSize() { return fitnessCacheSize; }
+
+    public int getTemperingChains() { return temperingChains; }
+    public int getTemperingSwapInterval() { return temperingSwapInterval; }
+
+    // Wall-clock limit of a metaheuristic search in milliseconds
+    public long getTimeLimitMillis() { return timeLimitMillis; }
+
+    // A metaheuristic stops once it finds a schedule with at most this total turnaround time
+    public long getTargetFitness() { return targetFitness; }
+
+    // A metaheuristic stops once its best schedule is within this fraction of the workload's lower bound;
+    // at 0 (the default) it only stops early on a schedule that is provably optimal
+    public double getGapTolerance() { return gapTolerance; }
+
+    // Whether a metaheuristic computes the workload's lower bound and stops on reaching it, or the gap
+    // tolerance above it (default: true); without it every search runs its full budget
+    public boolean isStopAtLowerBound() { return stopAtLowerBound; }
+
+    // Whether a metaheuristic also starts from the SJF and FCFS orders (default: true)
+    public boolean isHeuristicSeeding() { return heuristicSeeding; }
+
+    // Shared with earlier and later runs so each search starts from the last one's result (null = none)
+    public WarmStart getWarmStart() { return warmStart; }
+
+    public boolean isRecordTimeline() { return recordTimeline; }
+    public int getConvergenceSamples() { return convergenceSamples; }
+
+    public static class Builder {
+        private int timeQuantum = 2;
+        private int cpuCount = 1;
+        private boolean lowerNumberHigherPriority = true;
+        private int[] mlfqQuanta = {2, 4, 8};
+        private int mlfqBoostInterval = 100;
+        private int numAnts = 10;
+        private int maxIterations = 100;
+        private double alpha = 1.0;
+        private double beta = 2.0;
+        private double evaporationRate = 0.5;
+        private int islandCount = 1;
+        private int migrationInterval = 10;
+        private int migrationSize = 2;
+        private Topology topology = Topology.RING;
+        private int eliteCount = 2;
+        private int fitnessCacheSize = 0;
+        private int temperingChains = 1;
+        private int temperingSwapInterval = 100;
+        private long timeLimitMillis = 0;
+        private long targetFitness = 0;
+        private double gapTolerance = 0.0;
+        private boolean stopAtLowerBound = true;
+        private boolean heuristicSeeding = true;
+        private WarmStart warmStart = null;
+        private boolean recordTimeline = false;
+        private int convergenceSamples = 0;
+
+        public Builder timeQuantum(int timeQuantum) { this.timeQuantum = timeQuantum; return this; }
+        public Builder cpuCount(int cpuCount) { this.cpuCount = cpuCount; return this; }
+        public Builder lowerNumberHigherPriority(boolean lower) { this.lowerNumberHigherPriority = lower; return this; }
+        public Builder mlfqQuanta(int... quanta) { this.mlfqQuanta = quanta == null ? null : quanta.clone(); return this; }
+        public Builder mlfqBoostInterval(int interval) { this.mlfqBoostInterval = interval; return this; }
+        public Builder numAnts(int numAnts) { this.numAnts = numAnts; return this; }
+        public Builder maxIterations(int maxIterations) { this.maxIterations = maxIterations; return this; }
+        public Builder alpha(double alpha) { this.alpha = alpha; return this; }
+        public Builder beta(double beta) { this.beta = beta; return this; }
+        public Builder evaporationRate(double evaporationRate) { this.evaporationRate = evaporationRate; return this; }
+        public Builder islandCount(int islandCount) { this.islandCount = islandCount; return this; }
+        public Builder migrationInterval(int migrationInterval) { this.migrationInterval = migrationInterval; return this; }
+        public Builder migrationSize(int migrationSize) { this.migrationSize = migrationSize; return this; }
+        public Builder topology(Topology topology) { this.topology = topology; return this; }
+        public Builder eliteCount(int eliteCount) { this.eliteCount = eliteCount; return this; }
+        public Builder fitnessCacheSize(int size) { this.fitnessCacheSize = size; return this; }
+        public Builder temperingChains(int temperingChains) { this.temperingChains = temperingChains; return this; }
+        public Builder temperingSwapInterval(int interval) { this.temperingSwapInterval = interval; return this; }
+        public Builder timeLimitMillis(long timeLimitMillis) { this.timeLimitMillis = timeLimitMillis; return this; }
+        public Builder targetFitness(long targetFitness) { this.targetFitness = targetFitness; return this; }
+        public Builder gapTolerance(double gapTolerance) { this.gapTolerance = gapTolerance; return this; }
+        public Builder stopAtLowerBound(boolean stopAtLowerBound) { this.stopAtLowerBound = stopAtLowerBound; return this; }
+        public Builder heuristicSeeding(boolean heuristicSeeding) { this.heuristicSeeding = heuristicSeeding; return this; }
+        public Builder warmStart(WarmStart warmStart) { this.warmStart = warmStart; return this; }
+        public Builder recordTimeline(boolean recordTimeline) { this.recordTimeline = recordTimeline; return this; }
+        public Builder convergenceSamples(int samples) { this.convergenceSamples = samples; return this; }
+
+        public SchedulerParameters build() {
+            if (timeQuantum < 1) throw new IllegalArgumentException("timeQuantum must be at least 1");
+            if (cpuCount < 1) throw new IllegalArgumentException("cpuCount must be at least 1");
+            if (mlfqQuanta == null || mlfqQuanta.length < 1 || mlfqQuanta.length > MLFQ_MAX_LEVELS) {
+                throw new IllegalArgumentException("mlfqQuanta must give between 1 and " + MLFQ_MAX_LEVELS + " levels");
+            }
+            for (int quantum : mlfqQuanta) {
+                if (quantum < 1) throw new IllegalArgumentException("mlfqQuanta must all be at least 1");
+            }
+            if (mlfqBoostInterval < 0) throw new IllegalArgumentException("mlfqBoostInterval must not be negative");
+            if (numAnts < 1) throw new IllegalArgumentException("numAnts must be at least 1");
+            if (maxIterations < 1) throw new IllegalArgumentException("maxIterations must be at least 1");
+            if (islandCount < 1) throw new IllegalArgumentException("islandCount must be at least 1");
+            if (migrationInterval < 1) throw new IllegalArgumentException("migrationInterval must be at least 1");
+            if (migrationSize < 0) throw new IllegalArgumentException("migrationSize must not be negative");
+            if (temperingChains < 1) throw new IllegalArgumentException("temperingChains must be at least 1");
+            if (temperingSwapInterval < 1) throw new IllegalArgumentException("temperingSwapInterval must be at least 1");
+            if (eliteCount < 0) throw new IllegalArgumentException("eliteCount must not be negative");
+            if (fitnessCacheSize < 0) throw new IllegalArgumentException("fitnessCacheSize must not be negative");
+            if (convergenceSamples < 0) throw new IllegalArgumentException("convergenceSamples must not be negative");
+            if (timeLimitMillis < 0) throw new IllegalArgumentException("timeLimitMillis must not be negative");
+            if (!(gapTolerance >= 0)) throw new IllegalArgumentException("gapTolerance must not be negative");
+            if (topology == null) throw new IllegalArgumentException("topology must not be null");
+            return new SchedulerParameters(this);
+        }
+    }
+}
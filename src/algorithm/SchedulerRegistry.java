@@ -0,0 +1,39 @@
+package algorithm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Schedulers available at run time, found with ServiceLoader. Built-in
+ * algorithms are declared in module-info (and META-INF/services for classpath
+ * use); other modules can add their own by providing {@link Scheduler}.
+ */
+public class SchedulerRegistry {
+
+    private static volatile List<Scheduler> schedulers;
+
+    // Every registered scheduler, in declaration order
+    public static List<Scheduler> all() {
+        List<Scheduler> loaded = schedulers;
+        if (loaded == null) {
+            List<Scheduler> found = new ArrayList<>();
+            for (Scheduler scheduler : ServiceLoader.load(Scheduler.class, SchedulerRegistry.class.getClassLoader())) {
+                found.add(scheduler);
+            }
+            schedulers = loaded = Collections.unmodifiableList(found);
+        }
+        return loaded;
+    }
+
+    // Looks a scheduler up by its name or display name, ignoring case
+    public static Scheduler get(String name) {
+        for (Scheduler scheduler : all()) {
+            if (scheduler.name().equalsIgnoreCase(name) || scheduler.displayName().equalsIgnoreCase(name)) {
+                return scheduler;
+            }
+        }
+        throw new IllegalArgumentException("unknown algorithm " + name);
+    }
+}
@@ -0,0 +1,70 @@
+package algorithm;
+
+import java.util.Locale;
+
+/**
+ * How a metaheuristic search ended: why it stopped, how many candidate
+ * schedules it evaluated and the fitness (total turnaround time) of the best
+ * one, which is the schedule it returned, together with the workload's
+ * {@link LowerBound} and how far above it the best schedule is. If the run
+ * was asked to, it also carries the search's convergence curve.
+ */
+public final class SearchStats {
+
+    public enum StopReason {
+        COMPLETED,       // ran its full number of iterations
+        TIME_LIMIT,      // the wall-clock limit passed
+        TARGET_REACHED,  // a schedule at or below the target fitness was found
+        OPTIMAL,         // a schedule matching the lower bound was found, so none is better
+        WITHIN_GAP,      // a schedule within the gap tolerance of the lower bound was found
+        CANCELLED        // the cancellation token was triggered
+    }
+
+    private final StopReason stopReason;
+    private final long evaluations;
+    private final long bestFitness;
+    private final long lowerBound;
+    private final ConvergenceCurve convergence;
+
+    public SearchStats(StopReason stopReason, long evaluations, long bestFitness) {
+        this(stopReason, evaluations, bestFitness, null);
+    }
+
+    public SearchStats(StopReason stopReason, long evaluations, long bestFitness, ConvergenceCurve convergence) {
+        this(stopReason, evaluations, bestFitness, 0, convergence);
+    }
+
+    public SearchStats(StopReason stopReason, long evaluations, long bestFitness, long lowerBound,
+                       ConvergenceCurve convergence) {
+        this.stopReason = stopReason;
+        this.evaluations = evaluations;
+        this.bestFitness = bestFitness;
+        this.lowerBound = lowerBound;
+        this.convergence = convergence;
+    }
+
+    public StopReason getStopReason() { return stopReason; }
+    public long getEvaluations() { return evaluations; }
+    public long getBestFitness() { return bestFitness; }
+
+    // Total turnaround no schedule of the workload can beat, 0 if none was computed
+    public long getLowerBound() { return lowerBound; }
+
+    // How far the best fitness is above the lower bound, relative to it: 0.05 = 5%, 0 = optimal
+    public double getOptimalityGap() {
+        if (bestFitness <= lowerBound) return 0.0;
+        return lowerBound > 0 ? (double) (bestFitness - lowerBound) / lowerBound : Double.NaN;
+    }
+
+    // Null unless the run was made with convergenceSamples set
+    public ConvergenceCurve getConvergence() { return convergence; }
+
+    @Override
+    public String toString() {
+        String summary = stopReason + " after " + evaluations + " evaluations, best total turnaround " + bestFitness;
+        if (lowerBound > 0) {
+            summary += String.format(Locale.ROOT, " (lower bound %d, gap %.2f%%)", lowerBound, 100 * getOptimalityGap());
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,9 @@
+package algorithm;
+
+/**
+ * How the islands of an island-model GA exchange their best individuals.
+ */
+public enum Topology {
+    RING,            // island k sends to island k + 1
+    FULLY_CONNECTED  // every island sends to every other island
+}
@@ -0,0 +1,22 @@
+package algorithm;
+
+import model.ProcessTable;
+
+/**
+ * What searches hand on to later searches on a similar workload: the best
+ * order found and, for ACO, the final pheromone matrix. Lookups return null
+ * when nothing was kept for a workload like the given one. Implementations
+ * must be safe to share between threads.
+ */
+public interface WarmStart {
+
+    // The best order kept for a workload like this one, as rows of the given table, or null
+    int[] bestOrder(ProcessTable table);
+
+    void putBestOrder(ProcessTable table, int[] order);
+
+    // A pheromone matrix kept for a workload like this one, indexed by the given table's rows, or null
+    double[][] pheromone(ProcessTable table);
+
+    void putPheromone(ProcessTable table, double[][] pheromone);
+}
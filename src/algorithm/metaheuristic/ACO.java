@@ -1,153 +1,324 @@
 package algorithm.metaheuristic;
 
+import algorithm.CancellationToken;
+import algorithm.ProgressListener;
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.SearchStats;
+import algorithm.WarmStart;
+import algorithm.metrics.Metrics;
+import algorithm.metrics.PheromoneUpdateEvent;
+import algorithm.metrics.RunProbe;
+import algorithm.simulation.CpuPool;
 import model.Process;
+import model.ProcessTable;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-public class ACO {
+public class ACO implements Scheduler {
 
+    // ===== Scheduler SPI =====
+
+    @Override
+    public String name() { return "ACO"; }
+
+    @Override
+    public String displayName() { return "ACO"; }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        return run(workload, parameters, new CancellationToken());
+    }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters, CancellationToken token) {
+        return run(workload, parameters, token, ProgressListener.NONE);
+    }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters, CancellationToken token,
+                              ProgressListener listener) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        SearchStats stats = schedule(result, parameters, token, listener);
+        return probe.end(new ScheduleResult(displayName(), result, stats));
+    }
+
+    // Tour buffers are allocated once per ant and reused every iteration
     private static class Ant {
-        List<Process> tour = new ArrayList<>();
-        Set<Integer> visited = new HashSet<>();
-        int totalTime = 0;
-
-        void visit(Process p) {
-            tour.add(p);
-            visited.add(p.getPid());
-            totalTime += p.getBurstTime();
+        final int[] tour;
+        final boolean[] visited;
+        int size = 0;
+        long fitness = Long.MAX_VALUE; // total turnaround of the last complete tour
+
+        Ant(int n) {
+            tour = new int[n];
+            visited = new boolean[n];
         }
 
-        boolean visited(Process p) {
-            return visited.contains(p.getPid());
+        void reset() {
+            Arrays.fill(visited, false);
+            size = 0;
+        }
+
+        void visit(int row) {
+            tour[size++] = row;
+            visited[row] = true;
+        }
+    }
+
+    // A slice of the colony built by one thread, with its own random source and scratch buffer
+    private static class Worker {
+        final List<Ant> ants = new ArrayList<>();
+        final SplittableRandom random;
+        final double[] prob;
+        final CpuPool cpus;
+        long evaluations = 0;
+
+        Worker(SplittableRandom random, int n, int cpuCount) {
+            this.random = random;
+            this.prob = new double[n];
+            this.cpus = new CpuPool(cpuCount);
+        }
+
+        // Ants left unbuilt when the budget runs out keep their previous tour and fitness
+        void buildTours(ProcessTable table, double[][] choice, SearchBudget budget) {
+            for (Ant ant : ants) {
+                if (budget.exhausted()) return;
+                buildTour(table, choice, ant, prob, random);
+                ant.fitness = cpus.totalTurnaround(table, ant.tour);
+                evaluations++;
+            }
         }
     }
 
     public static void schedule(List<Process> processes, int numAnts, int maxIterations,
                                 double alpha, double beta, double evaporationRate) {
-        int n = processes.size();
+        ProcessTable table = ProcessTable.fromList(processes);
+        schedule(table, numAnts, maxIterations, alpha, beta, evaporationRate);
+        table.copyResultsTo(processes);
 
-        // Initialize pheromone matrix with small positive values
-        double[][] pheromone = new double[n][n];
-        for (int i = 0; i < n; i++)
-            Arrays.fill(pheromone[i], 1.0);
+        // Replace the original list order with bestSchedule order
+        table.reorder(processes);
+    }
 
-        // Precompute heuristic info: 1 / burstTime for each pair (simplified)
-        double[][] heuristic = new double[n][n];
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                if (i != j) {
-                    heuristic[i][j] = 1.0 / processes.get(j).getBurstTime();
-                } else {
-                    heuristic[i][j] = 0.0;
-                }
-            }
+    public static void schedule(ProcessTable table, int numAnts, int maxIterations,
+                                double alpha, double beta, double evaporationRate) {
+        schedule(table, SchedulerParameters.builder().numAnts(numAnts).maxIterations(maxIterations).alpha(alpha)
+                .beta(beta).evaporationRate(evaporationRate).build(),
+                new CancellationToken(), ProgressListener.NONE);
+    }
+
+    /*
+     * Ants are scored by the total turnaround time of their tour, the fitness GA and SA minimise.
+     * The search stops early at the parameters' time limit or target fitness, on reaching the gap
+     * tolerance above the workload's lower bound, or when the token is cancelled, and the table
+     * gets the best schedule found until then.
+     */
+    public static SearchStats schedule(ProcessTable table, SchedulerParameters parameters, CancellationToken token,
+                                       ProgressListener listener) {
+        return schedule(table, parameters, token, listener, List.of());
+    }
+
+    /*
+     * As above, with the best of the given schedules (row permutations of the table) and the other
+     * Seeding orders as the best tour so far, so the first pheromone deposit already follows it.
+     * With a warm-start store the pheromone matrix also starts where the last run on a workload
+     * of the same size left it, and this run's final matrix is stored in its place.
+     */
+    public static SearchStats schedule(ProcessTable table, SchedulerParameters parameters, CancellationToken token,
+                                       ProgressListener listener, List<int[]> seeds) {
+        int numAnts = parameters.getNumAnts();
+        int maxIterations = parameters.getMaxIterations();
+        double alpha = parameters.getAlpha();
+        double beta = parameters.getBeta();
+        double evaporationRate = parameters.getEvaporationRate();
+        SearchBudget budget = new SearchBudget("ACO", table, parameters, token, listener);
+
+        int n = table.size();
+
+        // Initialize pheromone matrix with small positive values, unless an earlier run left one
+        WarmStart warmStart = parameters.getWarmStart();
+        double[][] pheromone = warmStart == null ? null : warmStart.pheromone(table);
+        if (pheromone == null) {
+            pheromone = new double[n][n];
+            for (int i = 0; i < n; i++)
+                Arrays.fill(pheromone[i], 1.0);
         }
 
-        List<Process> bestSchedule = null;
-        int bestMakespan = Integer.MAX_VALUE;
+        // Precompute heuristic info: (1 / burstTime)^beta of the next process (simplified)
+        double[] heuristic = new double[n];
+        for (int j = 0; j < n; j++) {
+            heuristic[j] = Math.pow(1.0 / table.getBurstTime(j), beta);
+        }
 
-        Random random = new Random();
+        // choice[i][j] = pheromone^alpha * heuristic^beta, refreshed once per iteration and
+        // shared read-only by all ants instead of being recomputed at every step
+        double[][] choice = new double[n][n];
+
+        // Ants are dealt round-robin to one worker per core
+        int workerCount = Math.max(1, Math.min(numAnts, Runtime.getRuntime().availableProcessors()));
+        SplittableRandom seed = new SplittableRandom();
+        Worker[] workers = new Worker[workerCount];
+        for (int w = 0; w < workerCount; w++) workers[w] = new Worker(seed.split(), n, parameters.getCpuCount());
+        Ant[] ants = new Ant[numAnts];
+        for (int k = 0; k < numAnts; k++) {
+            ants[k] = new Ant(n);
+            workers[k % workerCount].ants.add(ants[k]);
+        }
 
-        for (int iter = 0; iter < maxIterations; iter++) {
-            List<Ant> ants = new ArrayList<>();
+        int[] bestSchedule = null;
+        long bestFitness = Long.MAX_VALUE;
+        long evaluations = 0;
 
-            for (int k = 0; k < numAnts; k++) {
-                Ant ant = new Ant();
+        List<int[]> initial = Seeding.orders(table, parameters, seeds);
+        if (!initial.isEmpty()) {
+            bestSchedule = initial.get(0);
+            bestFitness = workers[0].cpus.totalTurnaround(table, bestSchedule);
+            evaluations++;
+            budget.improved(bestFitness);
+        }
 
-                // Start from a random process
-                int currentIndex = random.nextInt(n);
-                ant.visit(processes.get(currentIndex));
+        boolean metrics = Metrics.isEnabled();
+        long pheromoneNanos = 0;
 
-                // Build a tour
-                while (ant.tour.size() < n) {
-                    int lastIndex = currentIndex;
+        ForkJoinPool pool = workerCount > 1 ? new ForkJoinPool(workerCount) : null;
+        try {
+            for (int iter = 0; iter < maxIterations && !budget.exhausted(); iter++) {
+                updateChoice(pheromone, heuristic, alpha, choice);
 
-                    // Calculate probabilities for next node
-                    double[] prob = new double[n];
-                    double sum = 0.0;
+                if (pool == null) {
+                    workers[0].buildTours(table, choice, budget);
+                } else {
+                    List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                    for (Worker worker : workers) tasks.add(pool.submit(() -> worker.buildTours(table, choice, budget)));
+                    for (ForkJoinTask<?> task : tasks) task.join();
+                }
 
-                    for (int j = 0; j < n; j++) {
-                        if (!ant.visited(processes.get(j))) {
-                            prob[j] = Math.pow(pheromone[lastIndex][j], alpha) *
-                                      Math.pow(heuristic[lastIndex][j], beta);
-                            sum += prob[j];
-                        } else {
-                            prob[j] = 0.0;
-                        }
+                // Find best ant in this iteration (min total turnaround schedule)
+                for (Ant ant : ants) {
+                    if (ant.fitness < bestFitness) {
+                        bestFitness = ant.fitness;
+                        bestSchedule = ant.tour.clone();
+                        budget.improved(bestFitness);
                     }
+                }
+                if (bestSchedule == null) break; // stopped before the first tour was built
+
+                PheromoneUpdateEvent update = new PheromoneUpdateEvent();
+                update.begin();
+                long updateStart = metrics ? System.nanoTime() : 0;
 
-                    // Roulette wheel selection
-                    double r = random.nextDouble() * sum;
-                    double cumulative = 0.0;
-                    int nextIndex = -1;
+                // Evaporate pheromones
+                for (int i = 0; i < n; i++) {
                     for (int j = 0; j < n; j++) {
-                        cumulative += prob[j];
-                        if (cumulative >= r) {
-                            nextIndex = j;
-                            break;
-                        }
-                    }
-                    if (nextIndex == -1) {
-                        // fallback: pick first unvisited
-                        for (int j = 0; j < n; j++) {
-                            if (!ant.visited(processes.get(j))) {
-                                nextIndex = j;
-                                break;
-                            }
-                        }
+                        pheromone[i][j] *= (1 - evaporationRate);
+                        if (pheromone[i][j] < 0.0001)
+                            pheromone[i][j] = 0.0001; // lower bound to pheromone
                     }
-
-                    ant.visit(processes.get(nextIndex));
-                    currentIndex = nextIndex;
                 }
-                ants.add(ant);
-            }
 
-            // Find best ant in this iteration (min total burst time schedule)
-            for (Ant ant : ants) {
-                int makespan = ant.totalTime; // sum of burst times in order, simplified
-                if (makespan < bestMakespan) {
-                    bestMakespan = makespan;
-                    bestSchedule = new ArrayList<>(ant.tour);
+                // Deposit pheromones by best ant, scaled by its average turnaround
+                double deposit = (double) n / Math.max(1, bestFitness);
+                for (int i = 0; i < bestSchedule.length - 1; i++) {
+                    pheromone[bestSchedule[i]][bestSchedule[i + 1]] += deposit;
                 }
-            }
+                if (metrics) pheromoneNanos += System.nanoTime() - updateStart;
+                update.finish(iter);
 
-            // Evaporate pheromones
-            for (int i = 0; i < n; i++) {
-                for (int j = 0; j < n; j++) {
-                    pheromone[i][j] *= (1 - evaporationRate);
-                    if (pheromone[i][j] < 0.0001)
-                        pheromone[i][j] = 0.0001; // lower bound to pheromone
-                }
+                budget.progress(iter + 1, maxIterations, meanFitness(ants));
             }
+        } finally {
+            if (pool != null) pool.shutdown();
+        }
 
-            // Deposit pheromones by best ant
-            for (int i = 0; i < bestSchedule.size() - 1; i++) {
-                int from = processes.indexOf(bestSchedule.get(i));
-                int to = processes.indexOf(bestSchedule.get(i + 1));
-                pheromone[from][to] += 1.0 / bestMakespan;
-            }
+        long tours = 0;
+        for (Worker worker : workers) tours += worker.evaluations;
+        evaluations += tours;
+        Metrics.add("ACO", "tours", tours);
+        Metrics.add("ACO", "pheromoneUpdateNanos", pheromoneNanos);
+
+        if (bestSchedule == null) {
+            // Not a single tour finished in time: fall back to arrival order
+            bestSchedule = table.rowsByArrival();
+            budget.improved(workers[0].cpus.totalTurnaround(table, bestSchedule));
+            evaluations++;
         }
 
         // Calculate completion, turnaround, waiting times for bestSchedule
-        int currentTime = 0;
-        for (Process p : bestSchedule) {
-            if (currentTime < p.getArrivalTime())
-                currentTime = p.getArrivalTime();
-
-            int completionTime = currentTime + p.getBurstTime();
-            int turnaroundTime = completionTime - p.getArrivalTime();
-            int waitingTime = turnaroundTime - p.getBurstTime();
+        workers[0].cpus.applyOrder(table, bestSchedule);
+        Seeding.remember(table, parameters, bestSchedule);
+        if (warmStart != null) warmStart.putPheromone(table, pheromone);
+        return budget.stats(evaluations);
+    }
 
-            p.setCompletionTime(completionTime);
-            p.setTurnaroundTime(turnaroundTime);
-            p.setWaitingTime(waitingTime);
+    // Mean over the ants that have completed a tour
+    private static double meanFitness(Ant[] ants) {
+        double sum = 0;
+        int count = 0;
+        for (Ant ant : ants) {
+            if (ant.fitness == Long.MAX_VALUE) continue;
+            sum += ant.fitness;
+            count++;
+        }
+        return count == 0 ? 0 : sum / count;
+    }
 
-            currentTime = completionTime;
+    private static void updateChoice(double[][] pheromone, double[] heuristic, double alpha, double[][] choice) {
+        int n = heuristic.length;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                choice[i][j] = i == j ? 0.0 : Math.pow(pheromone[i][j], alpha) * heuristic[j];
+            }
         }
+    }
 
-        // Replace the original list order with bestSchedule order
-        processes.clear();
-        processes.addAll(bestSchedule);
+    private static void buildTour(ProcessTable table, double[][] choice, Ant ant,
+                                  double[] prob, SplittableRandom random) {
+        int n = table.size();
+        ant.reset();
+
+        // Start from a random process
+        int currentIndex = random.nextInt(n);
+        ant.visit(currentIndex);
+
+        // Build a tour
+        while (ant.size < n) {
+            double[] weights = choice[currentIndex];
+
+            // Calculate probabilities for next node
+            double sum = 0.0;
+            for (int j = 0; j < n; j++) {
+                prob[j] = ant.visited[j] ? 0.0 : weights[j];
+                sum += prob[j];
+            }
+
+            // Roulette wheel selection
+            double r = random.nextDouble() * sum;
+            double cumulative = 0.0;
+            int nextIndex = -1;
+            for (int j = 0; j < n; j++) {
+                cumulative += prob[j];
+                if (cumulative >= r && prob[j] > 0.0) {
+                    nextIndex = j;
+                    break;
+                }
+            }
+            if (nextIndex == -1) {
+                // fallback: pick first unvisited
+                for (int j = 0; j < n; j++) {
+                    if (!ant.visited[j]) {
+                        nextIndex = j;
+                        break;
+                    }
+                }
+            }
+
+            ant.visit(nextIndex);
+            currentIndex = nextIndex;
+        }
     }
 
     public static void printResults(List<Process> processes) {
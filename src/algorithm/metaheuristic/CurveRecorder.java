@@ -0,0 +1,68 @@
+package algorithm.metaheuristic;
+
+import algorithm.ConvergenceCurve;
+
+import java.util.Arrays;
+
+/**
+ * Bounded recorder for a ConvergenceCurve. Points go into fixed arrays;
+ * when they are full every other point is dropped and from then on only every
+ * second iteration is sampled, so memory stays constant and the kept points
+ * stay evenly spread over however many iterations the search runs. The last
+ * iteration is always added at the end.
+ */
+final class CurveRecorder {
+
+    private final long[] steps;
+    private final long[] best;
+    private final double[] mean;
+    private int size;
+
+    private long stride = 1;
+    private long calls;
+    private long lastStep = -1, lastBest;
+    private double lastMean;
+
+    CurveRecorder(int capacity) {
+        int points = Math.max(2, capacity & ~1); // even, so halving keeps the spacing exact
+        steps = new long[points];
+        best = new long[points];
+        mean = new double[points];
+    }
+
+    void record(long step, long bestFitness, double meanFitness) {
+        lastStep = step;
+        lastBest = bestFitness;
+        lastMean = meanFitness;
+        if (calls++ % stride != 0) return;
+
+        if (size == steps.length) {
+            for (int i = 0; i < size / 2; i++) {
+                steps[i] = steps[2 * i];
+                best[i] = best[2 * i];
+                mean[i] = mean[2 * i];
+            }
+            size /= 2;
+            stride *= 2;
+            if ((calls - 1) % stride != 0) return;
+        }
+        steps[size] = step;
+        best[size] = bestFitness;
+        mean[size] = meanFitness;
+        size++;
+    }
+
+    ConvergenceCurve curve() {
+        boolean addLast = lastStep >= 0 && (size == 0 || steps[size - 1] != lastStep);
+        int points = size + (addLast ? 1 : 0);
+        long[] s = Arrays.copyOf(steps, points);
+        long[] b = Arrays.copyOf(best, points);
+        double[] m = Arrays.copyOf(mean, points);
+        if (addLast) {
+            s[size] = lastStep;
+            b[size] = lastBest;
+            m[size] = lastMean;
+        }
+        return new ConvergenceCurve(s, b, m);
+    }
+}
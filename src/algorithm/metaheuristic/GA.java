@@ -1,140 +1,382 @@
 package algorithm.metaheuristic;
 
+import algorithm.CancellationToken;
+import algorithm.ProgressListener;
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.SearchStats;
+import algorithm.Topology;
+import algorithm.metrics.RunProbe;
+import algorithm.simulation.CpuPool;
 import model.Process;
+import model.ProcessTable;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-public class GA {
+public class GA implements Scheduler {
+
+    // ===== Scheduler SPI =====
+
+    @Override
+    public String name() { return "GA"; }
+
+    @Override
+    public String displayName() { return "GA"; }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        return run(workload, parameters, new CancellationToken());
+    }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters, CancellationToken token) {
+        return run(workload, parameters, token, ProgressListener.NONE);
+    }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters, CancellationToken token,
+                              ProgressListener listener) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        SearchStats stats = schedule(result, parameters, token, listener);
+        return probe.end(new ScheduleResult(displayName(), result, stats));
+    }
 
     private static final int POPULATION_SIZE = 50;
     private static final int MAX_GENERATIONS = 100;
     private static final double MUTATION_RATE = 0.1;
+    private static final int TOURNAMENT_SIZE = 5;
 
     public static void schedule(List<Process> originalProcesses) {
-        List<List<Process>> population = initializePopulation(originalProcesses);
+        schedule(originalProcesses, 1, MAX_GENERATIONS, 0, Topology.RING);
+    }
 
-        List<Process> bestSchedule = null;
-        int bestFitness = Integer.MAX_VALUE;
+    public static void schedule(List<Process> originalProcesses, int islandCount, int migrationInterval,
+                                int migrationSize, Topology topology) {
+        ProcessTable table = ProcessTable.fromList(originalProcesses);
+        schedule(table, islandCount, migrationInterval, migrationSize, topology);
+        table.copyResultsTo(originalProcesses);
 
-        for (int generation = 0; generation < MAX_GENERATIONS; generation++) {
-            // Evaluate population
-            List<List<Process>> newPopulation = new ArrayList<>();
-            for (int i = 0; i < POPULATION_SIZE; i++) {
-                List<Process> parent1 = select(population);
-                List<Process> parent2 = select(population);
-                List<Process> child = crossover(parent1, parent2);
-                mutate(child);
-                newPopulation.add(child);
+        // Replace original list order with the best schedule
+        table.reorder(originalProcesses);
+    }
+
+    public static void schedule(ProcessTable table) {
+        schedule(table, SchedulerParameters.builder().islandCount(1).migrationInterval(MAX_GENERATIONS)
+                .migrationSize(0).build(),
+                new CancellationToken(), ProgressListener.NONE);
+    }
+
+    public static void schedule(ProcessTable table, int islandCount, int migrationInterval,
+                                int migrationSize, Topology topology) {
+        schedule(table, SchedulerParameters.builder().islandCount(islandCount).migrationInterval(migrationInterval)
+                .migrationSize(migrationSize).topology(topology).build(),
+                new CancellationToken(), ProgressListener.NONE);
+    }
+
+    /*
+     * Island mode: islandCount independent populations evolve in parallel, one task each on a
+     * ForkJoinPool sized to the available cores. Every migrationInterval generations each island
+     * sends copies of its migrationSize best individuals along the topology, where they replace
+     * the receiving island's worst individuals. With one island this is the plain GA.
+     *
+     * Every individual is evaluated once, when it is created, and carries its fitness from then
+     * on; the eliteCount fittest individuals of each generation are carried over unchanged, and
+     * with a fitness cache size above zero each island remembers the fitness of that many recent
+     * permutations so duplicates produced by crossover are not simulated again.
+     *
+     * The search stops early at the parameters' time limit or target fitness, on reaching the gap
+     * tolerance above the workload's lower bound, or when the token is cancelled, and the table
+     * gets the best schedule found until then.
+     */
+    public static SearchStats schedule(ProcessTable table, SchedulerParameters parameters, CancellationToken token,
+                                       ProgressListener listener) {
+        return schedule(table, parameters, token, listener, List.of());
+    }
+
+    /*
+     * As above, with every island's initial population starting from the given schedules (row
+     * permutations of the table) and the other Seeding orders, filled up with random ones.
+     */
+    public static SearchStats schedule(ProcessTable table, SchedulerParameters parameters, CancellationToken token,
+                                       ProgressListener listener, List<int[]> seeds) {
+        int islandCount = parameters.getIslandCount();
+        int migrationInterval = parameters.getMigrationInterval();
+        int migrationSize = parameters.getMigrationSize();
+        Topology topology = parameters.getTopology();
+        int eliteCount = Math.min(parameters.getEliteCount(), POPULATION_SIZE);
+        SearchBudget budget = new SearchBudget("GA", table, parameters, token, listener);
+        List<int[]> initial = Seeding.orders(table, parameters, seeds);
+
+        Island[] islands = new Island[islandCount];
+        for (int k = 0; k < islandCount; k++) {
+            islands[k] = new Island(table, initial, parameters.getFitnessCacheSize(), parameters.getCpuCount(), budget);
+        }
+
+        if (islandCount == 1) {
+            for (int generation = 0; generation < MAX_GENERATIONS && !budget.exhausted(); generation++) {
+                islands[0].evolve(table, 1, eliteCount, budget);
+                budget.progress(generation + 1, MAX_GENERATIONS, islands[0].meanFitness());
             }
-            population = newPopulation;
-
-            // Find best in current population
-            for (List<Process> schedule : population) {
-                int fitness = calculateFitness(schedule);
-                if (fitness < bestFitness) {
-                    bestFitness = fitness;
-                    bestSchedule = deepCopy(schedule);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(Math.min(islandCount, Runtime.getRuntime().availableProcessors()));
+            try {
+                int remaining = MAX_GENERATIONS;
+                while (remaining > 0 && !budget.exhausted()) {
+                    int generations = Math.min(migrationInterval, remaining);
+                    List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                    for (Island island : islands) {
+                        tasks.add(pool.submit(() -> island.evolve(table, generations, eliteCount, budget)));
+                    }
+                    for (ForkJoinTask<?> task : tasks) task.join();
+
+                    remaining -= generations;
+                    budget.progress(MAX_GENERATIONS - remaining, MAX_GENERATIONS, meanFitness(islands));
+                    if (remaining > 0 && migrationSize > 0) migrate(islands, migrationSize, topology);
                 }
+            } finally {
+                pool.shutdown();
             }
         }
 
+        Island best = islands[0];
+        long evaluations = 0;
+        for (Island island : islands) {
+            if (island.best.fitness < best.best.fitness) best = island;
+            evaluations += island.evaluations;
+        }
+
         // Assign completion, turnaround, and waiting times
-        applyTiming(bestSchedule);
-
-        // Replace original list
-        originalProcesses.clear();
-        originalProcesses.addAll(bestSchedule);
-    }
-
-    private static List<List<Process>> initializePopulation(List<Process> original) {
-        List<List<Process>> population = new ArrayList<>();
-        for (int i = 0; i < POPULATION_SIZE; i++) {
-            List<Process> shuffled = deepCopy(original);
-            Collections.shuffle(shuffled);
-            population.add(shuffled);
-        }
-        return population;
-    }
-
-    private static List<Process> select(List<List<Process>> population) {
-        // Tournament selection
-        Random rand = new Random();
-        List<Process> best = null;
-        int bestFitness = Integer.MAX_VALUE;
-        for (int i = 0; i < 5; i++) {
-            List<Process> candidate = population.get(rand.nextInt(POPULATION_SIZE));
-            int fitness = calculateFitness(candidate);
-            if (fitness < bestFitness) {
-                bestFitness = fitness;
-                best = candidate;
+        best.cpus.applyOrder(table, best.best.schedule);
+        Seeding.remember(table, parameters, best.best.schedule);
+        return budget.stats(evaluations);
+    }
+
+    private static double meanFitness(Island[] islands) {
+        double sum = 0;
+        for (Island island : islands) sum += island.meanFitness();
+        return sum / islands.length;
+    }
+
+    // A permutation of rows together with its total turnaround time
+    private static class Individual {
+        final int[] schedule;
+        final long fitness;
+
+        Individual(int[] schedule, long fitness) {
+            this.schedule = schedule;
+            this.fitness = fitness;
+        }
+    }
+
+    // One sub-population with its own random source, evolved by a single thread at a time
+    private static class Island {
+        Individual[] population = new Individual[POPULATION_SIZE];
+        final Random rand = new Random();
+        final FitnessCache cache;
+        final CpuPool cpus;
+        Individual best;
+        long evaluations = 0;
+
+        // Seeds are never modified, so islands can share them like migrants
+        Island(ProcessTable table, List<int[]> seeds, int cacheSize, int cpuCount, SearchBudget budget) {
+            cpus = new CpuPool(cpuCount);
+            cache = cacheSize > 0 ? new FitnessCache(cacheSize) : null;
+            for (int i = 0; i < POPULATION_SIZE; i++) {
+                if (i < seeds.size()) {
+                    population[i] = evaluate(table, seeds.get(i));
+                    continue;
+                }
+                int[] shuffled = table.identityPermutation();
+                shuffle(shuffled, rand);
+                population[i] = evaluate(table, shuffled);
+            }
+            best = population[rank()[0]];
+            budget.improved(best.fitness);
+        }
+
+        // Stops mid-generation when the budget runs out, keeping the previous population
+        void evolve(ProcessTable table, int generations, int eliteCount, SearchBudget budget) {
+            for (int generation = 0; generation < generations; generation++) {
+                Individual[] newPopulation = new Individual[POPULATION_SIZE];
+
+                // Elites carry over as they are, fitness included
+                Integer[] ranked = eliteCount > 0 ? rank() : null;
+                for (int i = 0; i < eliteCount; i++) newPopulation[i] = population[ranked[i]];
+
+                for (int i = eliteCount; i < POPULATION_SIZE; i++) {
+                    if (budget.exhausted()) return;
+                    int[] parent1 = select(population, rand);
+                    int[] parent2 = select(population, rand);
+                    int[] child = crossover(parent1, parent2, rand);
+                    mutate(child, rand);
+                    newPopulation[i] = evaluate(table, child);
+                    if (newPopulation[i].fitness < best.fitness) {
+                        best = newPopulation[i];
+                        budget.improved(best.fitness);
+                    }
+                }
+                population = newPopulation;
+            }
+        }
+
+        Individual evaluate(ProcessTable table, int[] schedule) {
+            if (cache != null) {
+                Long cached = cache.get(schedule);
+                if (cached != null) return new Individual(schedule, cached);
+            }
+            long fitness = cpus.totalTurnaround(table, schedule);
+            evaluations++;
+            if (cache != null) cache.put(schedule, fitness);
+            return new Individual(schedule, fitness);
+        }
+
+        double meanFitness() {
+            double sum = 0;
+            for (Individual individual : population) sum += individual.fitness;
+            return sum / population.length;
+        }
+
+        // Population indices from fittest to least fit
+        Integer[] rank() {
+            Integer[] ranked = new Integer[population.length];
+            for (int i = 0; i < ranked.length; i++) ranked[i] = i;
+            Arrays.sort(ranked, Comparator.comparingLong(i -> population[i].fitness));
+            return ranked;
+        }
+
+        // Individuals are never modified once created, so migrants can be shared between islands
+        List<Individual> emigrants(int count) {
+            Integer[] ranked = rank();
+            List<Individual> emigrants = new ArrayList<>();
+            for (int i = 0; i < Math.min(count, ranked.length); i++) {
+                emigrants.add(population[ranked[i]]);
+            }
+            return emigrants;
+        }
+
+        // Overwrites the worst individuals, always keeping at least the fittest one
+        void receive(List<Individual> immigrants) {
+            Integer[] ranked = rank();
+            int count = Math.min(immigrants.size(), ranked.length - 1);
+            for (int i = 0; i < count; i++) {
+                population[ranked[ranked.length - 1 - i]] = immigrants.get(i);
             }
         }
-        return deepCopy(best);
     }
 
-    private static List<Process> crossover(List<Process> parent1, List<Process> parent2) {
-        // Order crossover (OX)
-        int size = parent1.size();
-        Random rand = new Random();
-        int start = rand.nextInt(size);
-        int end = rand.nextInt(size - start) + start;
+    // Least recently used permutation -> fitness map, confined to one island's thread
+    private static class FitnessCache extends LinkedHashMap<FitnessCache.Key, Long> {
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
 
-        Set<Integer> pids = new HashSet<>();
-        List<Process> child = new ArrayList<>(Collections.nCopies(size, null));
-        for (int i = start; i < end; i++) {
-            child.set(i, parent1.get(i));
-            pids.add(parent1.get(i).getPid());
+        FitnessCache(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
         }
 
-        int idx = 0;
-        for (Process p : parent2) {
-            if (!pids.contains(p.getPid())) {
-                while (child.get(idx) != null) idx++;
-                child.set(idx, p);
+        Long get(int[] schedule) { return get(new Key(schedule)); }
+        void put(int[] schedule, long fitness) { put(new Key(schedule), fitness); }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+            return size() > capacity;
+        }
+
+        // Wraps a permutation that is never modified after it has been evaluated
+        static final class Key {
+            final int[] schedule;
+            final int hash;
+
+            Key(int[] schedule) {
+                this.schedule = schedule;
+                this.hash = Arrays.hashCode(schedule);
+            }
+
+            @Override
+            public int hashCode() { return hash; }
+
+            @Override
+            public boolean equals(Object other) {
+                return other instanceof Key && ((Key) other).hash == hash && Arrays.equals(((Key) other).schedule, schedule);
             }
         }
+    }
 
-        return child;
+    private static void migrate(Island[] islands, int migrationSize, Topology topology) {
+        int k = islands.length;
+
+        // Take every island's emigrants before any island is overwritten
+        List<List<Individual>> emigrants = new ArrayList<>(k);
+        for (Island island : islands) emigrants.add(island.emigrants(migrationSize));
+
+        for (int target = 0; target < k; target++) {
+            List<Individual> immigrants = new ArrayList<>();
+            if (topology == Topology.RING) {
+                immigrants.addAll(emigrants.get((target - 1 + k) % k));
+            } else {
+                for (int source = 0; source < k; source++) {
+                    if (source != target) immigrants.addAll(emigrants.get(source));
+                }
+            }
+            islands[target].receive(immigrants);
+        }
     }
 
-    private static void mutate(List<Process> individual) {
-        Random rand = new Random();
-        if (rand.nextDouble() < MUTATION_RATE) {
-            int i = rand.nextInt(individual.size());
-            int j = rand.nextInt(individual.size());
-            Collections.swap(individual, i, j);
+    // Tournament selection over the stored fitness values; parents are only read by crossover
+    private static int[] select(Individual[] population, Random rand) {
+        Individual best = null;
+        for (int i = 0; i < TOURNAMENT_SIZE; i++) {
+            Individual candidate = population[rand.nextInt(population.length)];
+            if (best == null || candidate.fitness < best.fitness) best = candidate;
         }
+        return best.schedule;
     }
 
-    private static int calculateFitness(List<Process> schedule) {
-        int currentTime = 0;
-        int totalTurnaround = 0;
+    private static int[] crossover(int[] parent1, int[] parent2, Random rand) {
+        // Order crossover (OX)
+        int size = parent1.length;
+        int start = rand.nextInt(size);
+        int end = rand.nextInt(size - start) + start;
 
-        for (Process p : schedule) {
-            if (currentTime < p.getArrivalTime()) currentTime = p.getArrivalTime();
-            currentTime += p.getBurstTime();
-            totalTurnaround += (currentTime - p.getArrivalTime());
+        boolean[] taken = new boolean[size];
+        int[] child = new int[size];
+        Arrays.fill(child, -1);
+        for (int i = start; i < end; i++) {
+            child[i] = parent1[i];
+            taken[parent1[i]] = true;
+        }
+
+        int idx = 0;
+        for (int row : parent2) {
+            if (!taken[row]) {
+                while (child[idx] != -1) idx++;
+                child[idx] = row;
+            }
         }
-        return totalTurnaround;
+
+        return child;
     }
 
-    private static void applyTiming(List<Process> processes) {
-        int currentTime = 0;
-        for (Process p : processes) {
-            if (currentTime < p.getArrivalTime()) currentTime = p.getArrivalTime();
-            int ct = currentTime + p.getBurstTime();
-            p.setCompletionTime(ct);
-            p.setTurnaroundTime(ct - p.getArrivalTime());
-            p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
-            currentTime = ct;
+    private static void mutate(int[] individual, Random rand) {
+        if (rand.nextDouble() < MUTATION_RATE) {
+            int i = rand.nextInt(individual.length);
+            int j = rand.nextInt(individual.length);
+            int tmp = individual[i];
+            individual[i] = individual[j];
+            individual[j] = tmp;
         }
     }
 
-    private static List<Process> deepCopy(List<Process> original) {
-        List<Process> copy = new ArrayList<>();
-        for (Process p : original) {
-            copy.add(new Process(p.getPid(), p.getArrivalTime(), p.getBurstTime()));
+    private static void shuffle(int[] rows, Random rand) {
+        for (int i = rows.length - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int tmp = rows[i];
+            rows[i] = rows[j];
+            rows[j] = tmp;
         }
-        return copy;
     }
 
     public static void printResults(List<Process> processes) {
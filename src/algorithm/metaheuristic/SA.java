@@ -1,9 +1,47 @@
 package algorithm.metaheuristic;
 
+import algorithm.CancellationToken;
+import algorithm.ProgressListener;
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.SearchStats;
+import algorithm.metrics.RunProbe;
+import algorithm.simulation.CpuPool;
 import model.Process;
+import model.ProcessTable;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
-public class SA {
+public class SA implements Scheduler {
+
+    // ===== Scheduler SPI =====
+
+    @Override
+    public String name() { return "SA"; }
+
+    @Override
+    public String displayName() { return "SA"; }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        return run(workload, parameters, new CancellationToken());
+    }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters, CancellationToken token) {
+        return run(workload, parameters, token, ProgressListener.NONE);
+    }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters, CancellationToken token,
+                              ProgressListener listener) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        SearchStats stats = schedule(result, parameters, token, listener);
+        return probe.end(new ScheduleResult(displayName(), result, stats));
+    }
 
     private static final double INITIAL_TEMPERATURE = 1000;
     private static final double FINAL_TEMPERATURE = 1;
@@ -11,83 +49,273 @@ public class SA {
     private static final int ITERATIONS_PER_TEMP = 100;
 
     public static void schedule(List<Process> originalProcesses) {
-        List<Process> currentSolution = deepCopy(originalProcesses);
-        Collections.shuffle(currentSolution);
-        int currentFitness = calculateFitness(currentSolution);
+        ProcessTable table = ProcessTable.fromList(originalProcesses);
+        schedule(table);
+        table.copyResultsTo(originalProcesses);
+
+        // Replace original list order with the best schedule
+        table.reorder(originalProcesses);
+    }
+
+    public static void schedule(ProcessTable table) {
+        schedule(table, SchedulerParameters.DEFAULTS, new CancellationToken(), ProgressListener.NONE);
+    }
+
+    public static void schedule(List<Process> originalProcesses, int chainCount, int swapInterval) {
+        ProcessTable table = ProcessTable.fromList(originalProcesses);
+        schedule(table, chainCount, swapInterval);
+        table.copyResultsTo(originalProcesses);
+        table.reorder(originalProcesses);
+    }
+
+    public static void schedule(ProcessTable table, int chainCount, int swapInterval) {
+        schedule(table, SchedulerParameters.builder().temperingChains(chainCount)
+                .temperingSwapInterval(swapInterval).build(),
+                new CancellationToken(), ProgressListener.NONE);
+    }
+
+    /*
+     * With one chain (the default) this is the plain annealing schedule.
+     *
+     * Parallel tempering: chainCount chains run at fixed temperatures spaced geometrically from
+     * FINAL_TEMPERATURE (chain 0) to INITIAL_TEMPERATURE, one task each on a ForkJoinPool sized to
+     * the available cores. Every swapInterval moves, neighbouring chains k and k + 1 exchange
+     * states with probability min(1, exp((E_k - E_k+1) * (1/T_k - 1/T_k+1))), alternating between
+     * even and odd pairs, so good states found by hot chains drift down to the cold ones. Each
+     * chain makes as many moves as the single annealing chain, and the best schedule of all
+     * chains wins.
+     *
+     * Either way the search stops early at the parameters' time limit or target fitness, on
+     * reaching the gap tolerance above the workload's lower bound, or when the token is
+     * cancelled, and the table gets the best schedule found until then.
+     */
+    public static SearchStats schedule(ProcessTable table, SchedulerParameters parameters, CancellationToken token,
+                                       ProgressListener listener) {
+        return schedule(table, parameters, token, listener, List.of());
+    }
+
+    /*
+     * As above, starting from the given schedules (row permutations of the table) as well as the
+     * other Seeding orders: the best one goes to the annealing chain, or the coldest tempering
+     * chain, the next ones to the next chains, and chains left over start from random orders.
+     */
+    public static SearchStats schedule(ProcessTable table, SchedulerParameters parameters, CancellationToken token,
+                                       ProgressListener listener, List<int[]> seeds) {
+        int chainCount = parameters.getTemperingChains();
+        int swapInterval = parameters.getTemperingSwapInterval();
+        SearchBudget budget = new SearchBudget("SA", table, parameters, token, listener);
+        List<int[]> initial = Seeding.orders(table, parameters, seeds);
+
+        Chain[] chains = new Chain[chainCount];
+        for (int k = 0; k < chainCount; k++) {
+            chains[k] = new Chain(table, k < initial.size() ? initial.get(k) : null, parameters.getCpuCount(), budget);
+        }
 
-        List<Process> bestSolution = deepCopy(currentSolution);
-        int bestFitness = currentFitness;
+        if (chainCount == 1) {
+            int steps = coolingSteps();
+            double temperature = INITIAL_TEMPERATURE;
+            for (int step = 1; temperature > FINAL_TEMPERATURE; step++) {
+                if (!chains[0].run(table, temperature, ITERATIONS_PER_TEMP, budget)) break;
+                budget.progress(step, steps, chains[0].fitness);
+                temperature *= ALPHA;
+            }
+        } else {
+            temper(table, chains, swapInterval, budget);
+        }
 
-        double temperature = INITIAL_TEMPERATURE;
+        Chain best = chains[0];
+        long evaluations = 0;
+        for (Chain chain : chains) {
+            if (chain.bestFitness < best.bestFitness) best = chain;
+            evaluations += chain.evaluations;
+        }
+        new CpuPool(parameters.getCpuCount()).applyOrder(table, best.bestSolution);
+        Seeding.remember(table, parameters, best.bestSolution);
+        return budget.stats(evaluations);
+    }
 
-        while (temperature > FINAL_TEMPERATURE) {
-            for (int i = 0; i < ITERATIONS_PER_TEMP; i++) {
-                List<Process> neighbor = generateNeighbor(currentSolution);
-                int neighborFitness = calculateFitness(neighbor);
+    private static void temper(ProcessTable table, Chain[] chains, int swapInterval, SearchBudget budget) {
+        int chainCount = chains.length;
+        double[] temperatures = new double[chainCount];
+        for (int k = 0; k < chainCount; k++) {
+            temperatures[k] = FINAL_TEMPERATURE
+                    * Math.pow(INITIAL_TEMPERATURE / FINAL_TEMPERATURE, (double) k / (chainCount - 1));
+        }
 
-                if (acceptanceProbability(currentFitness, neighborFitness, temperature) > Math.random()) {
-                    currentSolution = neighbor;
-                    currentFitness = neighborFitness;
+        Random rand = new Random();
+        ForkJoinPool pool = new ForkJoinPool(Math.min(chainCount, Runtime.getRuntime().availableProcessors()));
+        try {
+            long total = (long) coolingSteps() * ITERATIONS_PER_TEMP;
+            long remaining = total;
+            for (int round = 0; remaining > 0 && !budget.exhausted(); round++) {
+                int moves = (int) Math.min(swapInterval, remaining);
+                List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                for (int k = 0; k < chainCount; k++) {
+                    Chain chain = chains[k];
+                    double temperature = temperatures[k];
+                    tasks.add(pool.submit(() -> chain.run(table, temperature, moves, budget)));
+                }
+                for (ForkJoinTask<?> task : tasks) task.join();
+                remaining -= moves;
+                budget.progress(total - remaining, total, meanFitness(chains));
 
-                    if (currentFitness < bestFitness) {
-                        bestSolution = deepCopy(currentSolution);
-                        bestFitness = currentFitness;
+                for (int k = round % 2; k + 1 < chainCount; k += 2) {
+                    double exponent = (chains[k].fitness - chains[k + 1].fitness)
+                            * (1 / temperatures[k] - 1 / temperatures[k + 1]);
+                    if (exponent >= 0 || Math.exp(exponent) > rand.nextDouble()) {
+                        Chain colder = chains[k];
+                        chains[k] = chains[k + 1];
+                        chains[k + 1] = colder;
                     }
                 }
             }
-            temperature *= ALPHA;
+        } finally {
+            pool.shutdown();
         }
+    }
 
-        applyTiming(bestSolution);
+    private static double meanFitness(Chain[] chains) {
+        double sum = 0;
+        for (Chain chain : chains) sum += chain.fitness;
+        return sum / chains.length;
+    }
 
-        originalProcesses.clear();
-        originalProcesses.addAll(bestSolution);
+    // Number of temperature levels in the annealing schedule
+    private static int coolingSteps() {
+        int steps = 0;
+        for (double temperature = INITIAL_TEMPERATURE; temperature > FINAL_TEMPERATURE; temperature *= ALPHA) steps++;
+        return steps;
     }
 
-    private static double acceptanceProbability(int currentFitness, int newFitness, double temperature) {
-        if (newFitness < currentFitness) return 1.0;
-        return Math.exp((currentFitness - newFitness) / temperature);
+    // One annealing state with its own random source, advanced by a single thread at a time
+    private static class Chain {
+        final Random rand = new Random();
+
+        // A single permutation is mutated in place; finish[k] is the completion time of position k
+        final int[] currentSolution;
+        final int[] finish;
+        long fitness;
+
+        final int[] bestSolution;
+        long bestFitness;
+        long evaluations = 1;
+
+        // Null on one CPU. On several, a swap can change which CPU every later process gets, so
+        // moves are scored by decoding the whole order again instead of through finish[]
+        final CpuPool cpus;
+
+        // Starts from the given order, which the chain then owns, or from a random one if null
+        Chain(ProcessTable table, int[] start, int cpuCount, SearchBudget budget) {
+            if (start != null) {
+                currentSolution = start;
+            } else {
+                currentSolution = table.identityPermutation();
+                shuffle(currentSolution, rand);
+            }
+            finish = new int[currentSolution.length];
+            cpus = cpuCount > 1 ? new CpuPool(cpuCount) : null;
+            fitness = cpus == null
+                    ? fillFinishTimes(table, currentSolution, finish)
+                    : cpus.totalTurnaround(table, currentSolution);
+            bestSolution = currentSolution.clone();
+            bestFitness = fitness;
+            budget.improved(fitness);
+        }
+
+        // Makes the given number of moves; returns false if the budget ran out first
+        boolean run(ProcessTable table, double temperature, int moves, SearchBudget budget) {
+            int n = currentSolution.length;
+            for (int iter = 0; iter < moves; iter++) {
+                if (budget.exhausted()) return false;
+                int i = rand.nextInt(n);
+                int j = rand.nextInt(n);
+                if (i == j) continue; // swapping a position with itself changes nothing
+                if (i > j) { int tmp = i; i = j; j = tmp; }
+
+                swap(currentSolution, i, j);
+                long neighborFitness = cpus == null
+                        ? fitness + swapDelta(table, currentSolution, finish, i, j, false)
+                        : cpus.totalTurnaround(table, currentSolution);
+                evaluations++;
+
+                if (acceptanceProbability(fitness, neighborFitness, temperature) > rand.nextDouble()) {
+                    if (cpus == null) swapDelta(table, currentSolution, finish, i, j, true);
+                    fitness = neighborFitness;
+
+                    if (fitness < bestFitness) {
+                        System.arraycopy(currentSolution, 0, bestSolution, 0, n);
+                        bestFitness = fitness;
+                        budget.improved(fitness);
+                    }
+                } else {
+                    swap(currentSolution, i, j); // undo the move
+                }
+            }
+            return true;
+        }
     }
 
-    private static List<Process> generateNeighbor(List<Process> solution) {
-        List<Process> neighbor = deepCopy(solution);
-        int i = new Random().nextInt(neighbor.size());
-        int j = new Random().nextInt(neighbor.size());
-        Collections.swap(neighbor, i, j);
-        return neighbor;
+    private static double acceptanceProbability(long currentFitness, long newFitness, double temperature) {
+        if (newFitness < currentFitness) return 1.0;
+        return Math.exp((currentFitness - newFitness) / temperature);
     }
 
-    private static int calculateFitness(List<Process> schedule) {
+    // Fills finish[] for the given order and returns the total turnaround time
+    private static long fillFinishTimes(ProcessTable table, int[] order, int[] finish) {
         int currentTime = 0;
-        int totalTurnaround = 0;
-
-        for (Process p : schedule) {
-            if (currentTime < p.getArrivalTime()) currentTime = p.getArrivalTime();
-            currentTime += p.getBurstTime();
-            totalTurnaround += (currentTime - p.getArrivalTime());
+        long totalTurnaround = 0;
+        for (int k = 0; k < order.length; k++) {
+            int row = order[k];
+            currentTime = Math.max(currentTime, table.getArrivalTime(row)) + table.getBurstTime(row);
+            finish[k] = currentTime;
+            totalTurnaround += currentTime - table.getArrivalTime(row);
         }
-
         return totalTurnaround;
     }
 
-    private static void applyTiming(List<Process> processes) {
-        int currentTime = 0;
-        for (Process p : processes) {
-            if (currentTime < p.getArrivalTime()) currentTime = p.getArrivalTime();
-            int ct = currentTime + p.getBurstTime();
-            p.setCompletionTime(ct);
-            p.setTurnaroundTime(ct - p.getArrivalTime());
-            p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
-            currentTime = ct;
+    /*
+     * Change in total turnaround after positions i < j of order were swapped, measured against
+     * finish[] (which still describes the order before the swap). Only the suffix from i is
+     * re-simulated, and the walk stops once a completion time matches the old timeline again.
+     * With commit set, finish[] is updated to the swapped order as it goes.
+     *
+     * The arrival terms cancel out because the swap only exchanges rows between positions
+     * i and j, so the delta is just the sum of the completion-time differences.
+     */
+    private static long swapDelta(ProcessTable table, int[] order, int[] finish, int i, int j, boolean commit) {
+        int prev = i == 0 ? 0 : finish[i - 1];
+        long delta = 0;
+        for (int k = i; k < order.length; k++) {
+            int row = order[k];
+            int t = Math.max(prev, table.getArrivalTime(row)) + table.getBurstTime(row);
+            int old = finish[k];
+            delta += t - old;
+            if (commit) finish[k] = t;
+
+            if (t == old) {
+                if (k >= j) break;   // timeline re-synchronised, the rest is unchanged
+                k = j - 1;           // positions up to j hold the same rows, skip to j
+                prev = finish[k];
+                continue;
+            }
+            prev = t;
         }
+        return delta;
+    }
+
+    private static void swap(int[] order, int i, int j) {
+        int tmp = order[i];
+        order[i] = order[j];
+        order[j] = tmp;
     }
 
-    private static List<Process> deepCopy(List<Process> original) {
-        List<Process> copy = new ArrayList<>();
-        for (Process p : original) {
-            copy.add(new Process(p.getPid(), p.getArrivalTime(), p.getBurstTime()));
+    private static void shuffle(int[] rows, Random rand) {
+        for (int i = rows.length - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int tmp = rows[i];
+            rows[i] = rows[j];
+            rows[j] = tmp;
         }
-        return copy;
     }
 
     public static void printResults(List<Process> processes) {
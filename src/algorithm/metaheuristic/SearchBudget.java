@@ -0,0 +1,101 @@
+package algorithm.metaheuristic;
+
+import algorithm.CancellationToken;
+import algorithm.LowerBound;
+import algorithm.ProgressListener;
+import algorithm.SchedulerParameters;
+import algorithm.SearchStats;
+import algorithm.SearchStats.StopReason;
+import algorithm.metrics.SearchStepEvent;
+import model.ProcessTable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stop conditions of one search run, shared by all of its threads: the
+ * wall-clock limit and target fitness from the parameters, the workload's
+ * lower bound (with the parameters' gap tolerance) unless that is turned off,
+ * and a cancellation token. Workers call {@link #exhausted()} between moves and report every
+ * improvement through {@link #improved(long)}, so the best fitness is shared
+ * across chains, islands and ant workers. The driving loop reports completed
+ * iterations through {@link #progress(long, long, double)}, which also emits
+ * a {@link SearchStepEvent} when JFR is recording and adds a point to the
+ * convergence curve when one is being recorded.
+ */
+final class SearchBudget {
+
+    private final String algorithm;
+    private final long startNanos = System.nanoTime();
+    private final long limitNanos;
+    private final long deadlineNanos; // startNanos + limitNanos, only meaningful with a limit
+    private final long targetFitness;
+    private final long lowerBound; // 0 when the bound is not used
+    private final long gapFitness; // best fitness within the gap tolerance of the lower bound
+    private final CancellationToken token;
+    private final ProgressListener listener;
+    private final CurveRecorder curve; // null unless asked for
+
+    private final AtomicLong bestFitness = new AtomicLong(Long.MAX_VALUE);
+    private volatile StopReason stopReason;
+
+    SearchBudget(String algorithm, ProcessTable table, SchedulerParameters parameters, CancellationToken token,
+                 ProgressListener listener) {
+        this.algorithm = algorithm;
+        this.limitNanos = parameters.getTimeLimitMillis() > 0
+                ? TimeUnit.MILLISECONDS.toNanos(parameters.getTimeLimitMillis())
+                : Long.MAX_VALUE;
+        this.deadlineNanos = startNanos + limitNanos;
+        this.targetFitness = parameters.getTargetFitness() > 0 ? parameters.getTargetFitness() : Long.MIN_VALUE;
+        if (parameters.isStopAtLowerBound()) {
+            this.lowerBound = LowerBound.totalTurnaround(table, parameters.getCpuCount());
+            this.gapFitness = lowerBound + (long) Math.floor(parameters.getGapTolerance() * lowerBound);
+        } else {
+            this.lowerBound = 0;
+            this.gapFitness = Long.MIN_VALUE; // never reached
+        }
+        this.token = token;
+        this.listener = listener;
+        this.curve = parameters.getConvergenceSamples() > 0 ? new CurveRecorder(parameters.getConvergenceSamples()) : null;
+    }
+
+    // Whether the search should stop now; once true it stays true. Called on every move, so the
+    // clock is only read when there is a time limit
+    boolean exhausted() {
+        if (stopReason != null) return true;
+        if (token.isCancelled()) {
+            stopReason = StopReason.CANCELLED;
+        } else if (limitNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos >= 0) {
+            stopReason = StopReason.TIME_LIMIT;
+        }
+        return stopReason != null;
+    }
+
+    void improved(long fitness) {
+        long best = bestFitness.accumulateAndGet(fitness, Math::min);
+        if (stopReason != null) return;
+        if (best <= targetFitness) {
+            stopReason = StopReason.TARGET_REACHED;
+        } else if (best <= gapFitness) {
+            stopReason = best <= lowerBound ? StopReason.OPTIMAL : StopReason.WITHIN_GAP;
+        }
+    }
+
+    // Called by the driving thread only; meanFitness is that of the current population, ants or chains
+    void progress(long done, long total, double meanFitness) {
+        double fraction = (double) done / total;
+        if (limitNanos != Long.MAX_VALUE) {
+            fraction = Math.max(fraction, (double) (System.nanoTime() - startNanos) / limitNanos);
+        }
+        long best = bestFitness.get();
+        SearchStepEvent.emit(algorithm, done, best);
+        if (curve != null) curve.record(done, best, meanFitness);
+        listener.onProgress(Math.min(1.0, fraction), best);
+    }
+
+    SearchStats stats(long evaluations) {
+        StopReason reason = stopReason;
+        return new SearchStats(reason == null ? StopReason.COMPLETED : reason, evaluations, bestFitness.get(),
+                lowerBound, curve == null ? null : curve.curve());
+    }
+}
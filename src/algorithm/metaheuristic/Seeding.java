@@ -0,0 +1,83 @@
+package algorithm.metaheuristic;
+
+import algorithm.SchedulerParameters;
+import algorithm.simulation.CpuPool;
+import algorithm.traditional.SJF;
+import model.ProcessTable;
+import java.util.*;
+
+/**
+ * Starting schedules for ACO, GA and SA besides random ones: the best order
+ * of an earlier run from the parameters' warm-start store, the seeds the
+ * caller passed in and, unless heuristic seeding is turned off, the SJF and
+ * FCFS dispatch orders. Each heuristic order costs one O(n log n) pass and is
+ * usually far better than a random permutation, so the search starts from a
+ * good schedule and never returns anything worse.
+ */
+final class Seeding {
+
+    private Seeding() {}
+
+    // Distinct seed orders, best (lowest total turnaround) first; each is a fresh array the caller may modify
+    static List<int[]> orders(ProcessTable table, SchedulerParameters parameters, List<int[]> given) {
+        int n = table.size();
+        List<int[]> seeds = new ArrayList<>();
+        if (parameters.getWarmStart() != null) {
+            int[] previous = parameters.getWarmStart().bestOrder(table);
+            if (previous != null) seeds.add(previous);
+        }
+        for (int[] order : given) {
+            if (!isPermutation(order, n)) {
+                throw new IllegalArgumentException("seed schedule is not a permutation of the workload's rows");
+            }
+            seeds.add(order.clone());
+        }
+        if (parameters.isHeuristicSeeding() && n > 0) {
+            seeds.add(sjfOrder(table, parameters.getCpuCount()));
+            seeds.add(table.rowsByArrival()); // FCFS
+        }
+
+        List<int[]> distinct = new ArrayList<>();
+        for (int[] order : seeds) {
+            boolean seen = false;
+            for (int[] kept : distinct) seen |= Arrays.equals(kept, order);
+            if (!seen) distinct.add(order);
+        }
+
+        CpuPool cpus = new CpuPool(parameters.getCpuCount());
+        long[] fitness = new long[distinct.size()];
+        Integer[] ranked = new Integer[distinct.size()];
+        for (int i = 0; i < ranked.length; i++) {
+            fitness[i] = cpus.totalTurnaround(table, distinct.get(i));
+            ranked[i] = i;
+        }
+        Arrays.sort(ranked, Comparator.comparingLong(i -> fitness[i]));
+        List<int[]> sorted = new ArrayList<>(ranked.length);
+        for (int i : ranked) sorted.add(distinct.get(i));
+        return sorted;
+    }
+
+    // Keeps a search's best order for the next run on a similar workload
+    static void remember(ProcessTable table, SchedulerParameters parameters, int[] best) {
+        if (parameters.getWarmStart() != null) parameters.getWarmStart().putBestOrder(table, best);
+    }
+
+    // The order SJF dispatches the rows in
+    private static int[] sjfOrder(ProcessTable table, int cpuCount) {
+        ProcessTable scratch = table.withOwnResults(false);
+        SJF.schedule(scratch, cpuCount);
+        int[] order = new int[table.size()];
+        for (int k = 0; k < order.length; k++) order[k] = scratch.getOrder(k);
+        return order;
+    }
+
+    private static boolean isPermutation(int[] order, int n) {
+        if (order.length != n) return false;
+        boolean[] seen = new boolean[n];
+        for (int row : order) {
+            if (row < 0 || row >= n || seen[row]) return false;
+            seen[row] = true;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+package algorithm.metaheuristic;
+
+import algorithm.WarmStart;
+import algorithm.simulation.LongHeap;
+import model.ProcessTable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link WarmStart}: what earlier searches learned, kept for the
+ * next search on a similar workload: the best order found by ACO, GA or SA
+ * and ACO's final pheromone matrix. Hand the same store to several runs through
+ * {@code SchedulerParameters.builder().warmStart(store)} and each one starts
+ * where the previous one stopped instead of from scratch.
+ *
+ * Workloads are similar when they have the same number of processes, as with
+ * the same trace run again or re-sampled. Processes are matched up by their
+ * rank in (arrival, burst) order rather than by row, so a store carries over
+ * between workloads whose rows are listed differently, and processes it cannot
+ * tell apart are interchangeable in any schedule. Only the latest entry for
+ * each size is kept. Safe to share between threads.
+ */
+public class WarmStartStore implements WarmStart {
+
+    // Keyed by process count; orders and matrices are indexed by rank
+    private final Map<Integer, int[]> orders = new ConcurrentHashMap<>();
+    private final Map<Integer, double[][]> pheromones = new ConcurrentHashMap<>();
+
+    @Override
+    public int[] bestOrder(ProcessTable table) {
+        int[] ranks = orders.get(table.size());
+        if (ranks == null) return null;
+        int[] byRank = rowsByRank(table);
+        int[] order = new int[ranks.length];
+        for (int k = 0; k < order.length; k++) order[k] = byRank[ranks[k]];
+        return order;
+    }
+
+    @Override
+    public void putBestOrder(ProcessTable table, int[] order) {
+        int[] byRank = rowsByRank(table);
+        int[] rank = new int[byRank.length];
+        for (int k = 0; k < byRank.length; k++) rank[byRank[k]] = k;
+        int[] ranks = new int[order.length];
+        for (int k = 0; k < order.length; k++) ranks[k] = rank[order[k]];
+        orders.put(table.size(), ranks);
+    }
+
+    @Override
+    public double[][] pheromone(ProcessTable table) {
+        double[][] stored = pheromones.get(table.size());
+        if (stored == null) return null;
+        int[] byRank = rowsByRank(table);
+        int n = stored.length;
+        double[][] pheromone = new double[n][n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) pheromone[byRank[a]][byRank[b]] = stored[a][b];
+        }
+        return pheromone;
+    }
+
+    @Override
+    public void putPheromone(ProcessTable table, double[][] pheromone) {
+        int[] byRank = rowsByRank(table);
+        int n = pheromone.length;
+        double[][] stored = new double[n][n];
+        for (int a = 0; a < n; a++) {
+            for (int b = 0; b < n; b++) stored[a][b] = pheromone[byRank[a]][byRank[b]];
+        }
+        pheromones.put(n, stored);
+    }
+
+    public void clear() {
+        orders.clear();
+        pheromones.clear();
+    }
+
+    // Rows sorted by arrival, then burst, then row: runs of equal arrival in rowsByArrival are
+    // re-sorted on packed (burst, row) keys
+    private static int[] rowsByRank(ProcessTable table) {
+        int[] byRank = table.rowsByArrival();
+        long[] keys = new long[byRank.length];
+        for (int first = 0, next; first < byRank.length; first = next) {
+            int arrival = table.getArrivalTime(byRank[first]);
+            next = first + 1;
+            while (next < byRank.length && table.getArrivalTime(byRank[next]) == arrival) next++;
+            if (next - first == 1) continue;
+            for (int k = first; k < next; k++) keys[k] = LongHeap.pack(table.getBurstTime(byRank[k]), byRank[k]);
+            Arrays.sort(keys, first, next);
+            for (int k = first; k < next; k++) byRank[k] = LongHeap.row(keys[k]);
+        }
+        return byRank;
+    }
+}
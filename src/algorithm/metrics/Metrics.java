@@ -0,0 +1,82 @@
+package algorithm.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters of what the schedulers did, keyed "scheduler.metric",
+ * e.g. "GA.evaluations" or "RR.contextSwitches". Totals are summed over all
+ * runs since the last {@link #reset()}; names starting with "max" keep the
+ * largest value seen instead.
+ *
+ * Off by default. While disabled, schedulers skip the extra timing and
+ * bookkeeping that feeds the registry, so the cost is one volatile read per
+ * run or iteration. Enable with {@link #setEnabled(boolean)} or
+ * -Dscheduler.metrics=true.
+ */
+public final class Metrics {
+
+    private static volatile boolean enabled = Boolean.getBoolean("scheduler.metrics");
+
+    private static final Map<String, LongAdder> totals = new ConcurrentHashMap<>();
+    private static final Map<String, LongAccumulator> maxima = new ConcurrentHashMap<>();
+
+    private Metrics() {}
+
+    public static boolean isEnabled() { return enabled; }
+    public static void setEnabled(boolean on) { enabled = on; }
+
+    public static void add(String scheduler, String metric, long delta) {
+        if (!enabled) return;
+        totals.computeIfAbsent(scheduler + "." + metric, key -> new LongAdder()).add(delta);
+    }
+
+    public static void max(String scheduler, String metric, long value) {
+        if (!enabled) return;
+        maxima.computeIfAbsent(scheduler + "." + metric, key -> new LongAccumulator(Math::max, Long.MIN_VALUE))
+                .accumulate(value);
+    }
+
+    // Current values by name, in name order
+    public static SortedMap<String, Long> snapshot() {
+        SortedMap<String, Long> values = new TreeMap<>();
+        totals.forEach((name, total) -> values.put(name, total.sum()));
+        maxima.forEach((name, max) -> values.put(name, max.get()));
+        return values;
+    }
+
+    public static void reset() {
+        totals.clear();
+        maxima.clear();
+    }
+
+    /*
+     * One "name value" line per metric, followed by the rates derived from them:
+     * evaluations per second of search time and the mean ready-queue length at a dispatch.
+     */
+    public static String report() {
+        SortedMap<String, Long> values = snapshot();
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> entry : values.entrySet()) {
+            sb.append(String.format(Locale.ROOT, "%-36s %d%n", entry.getKey(), entry.getValue()));
+        }
+        for (Map.Entry<String, Long> entry : values.entrySet()) {
+            String name = entry.getKey();
+            String scheduler = name.substring(0, name.lastIndexOf('.'));
+            if (name.endsWith(".evaluations") && values.getOrDefault(scheduler + ".runNanos", 0L) > 0) {
+                double seconds = values.get(scheduler + ".runNanos") / 1e9;
+                sb.append(String.format(Locale.ROOT, "%-36s %.0f%n", scheduler + ".evaluationsPerSecond",
+                        entry.getValue() / seconds));
+            } else if (name.endsWith(".readyQueueTotal") && values.getOrDefault(scheduler + ".dispatches", 0L) > 0) {
+                sb.append(String.format(Locale.ROOT, "%-36s %.2f%n", scheduler + ".meanReadyQueue",
+                        (double) entry.getValue() / values.get(scheduler + ".dispatches")));
+            }
+        }
+        return sb.toString();
+    }
+}
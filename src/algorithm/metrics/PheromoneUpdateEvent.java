@@ -0,0 +1,22 @@
+package algorithm.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Evaporation and deposit of one ACO iteration
+@Name("scheduler.PheromoneUpdate")
+@Label("Pheromone Update")
+@Category("Scheduler")
+public final class PheromoneUpdateEvent extends jdk.jfr.Event {
+
+    @Label("Iteration")
+    int iteration;
+
+    // Ends the update started with begin()
+    public void finish(int iteration) {
+        if (!shouldCommit()) return;
+        this.iteration = iteration;
+        commit();
+    }
+}
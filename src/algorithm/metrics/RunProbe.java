@@ -0,0 +1,108 @@
+package algorithm.metrics;
+
+import algorithm.ScheduleResult;
+import model.Timeline;
+
+import java.util.Arrays;
+
+/**
+ * Instrumentation of one Scheduler.run call: a {@link SchedulerRunEvent} for
+ * JFR and the per-run totals in {@link Metrics}.
+ *
+ * Dispatch figures are read off the finished schedule's timeline rather than
+ * counted inside each algorithm's loop, so they mean the same for every
+ * scheduler and cost nothing when neither JFR nor the registry is listening.
+ * A run should ask for a timeline when {@link #wantsTimeline()} says so.
+ */
+public final class RunProbe {
+
+    private final String algorithm;
+    private final SchedulerRunEvent event = new SchedulerRunEvent();
+    private final boolean metrics = Metrics.isEnabled();
+    private final long startNanos;
+
+    private RunProbe(String algorithm) {
+        this.algorithm = algorithm;
+        this.startNanos = metrics ? System.nanoTime() : 0;
+        event.begin();
+    }
+
+    public static RunProbe begin(String algorithm) {
+        return new RunProbe(algorithm);
+    }
+
+    public boolean wantsTimeline() {
+        return metrics || event.isEnabled();
+    }
+
+    // Records the finished run and hands its result back
+    public ScheduleResult end(ScheduleResult result) {
+        event.end();
+        boolean commit = event.shouldCommit();
+        if (!metrics && !commit) return result;
+
+        long evaluations = result.getSearchStats() == null ? 0 : result.getSearchStats().getEvaluations();
+        long dispatches = 0, contextSwitches = 0, readyQueueTotal = 0;
+        int maxReadyQueue = 0;
+
+        Timeline timeline = result.getTimeline();
+        if (timeline != null) {
+            int n = result.size();
+            int[] arrivals = new int[n];
+            int[] completions = new int[n];
+            for (int row = 0; row < n; row++) {
+                arrivals[row] = result.getArrivalTime(row);
+                completions[row] = result.getCompletionTime(row);
+            }
+            Arrays.sort(arrivals);
+            Arrays.sort(completions);
+
+            int segments = timeline.size();
+            int[] byStart = timeline.segmentsByStart();
+            int[] ends = new int[segments];
+            for (int i = 0; i < segments; i++) ends[i] = timeline.getEnd(i);
+            Arrays.sort(ends);
+            int[] lastEnd = new int[result.getCpuCount()];
+            Arrays.fill(lastEnd, Integer.MIN_VALUE);
+
+            // Visiting segments by start time, every cursor only moves forward
+            int arrived = 0, completed = 0, started = 0, ended = 0;
+            for (int k = 0; k < segments; k++) {
+                int i = byStart[k];
+                int start = timeline.getStart(i);
+                while (arrived < n && arrivals[arrived] <= start) arrived++;
+                while (completed < n && completions[completed] <= start) completed++;
+                while (started < segments && timeline.getStart(byStart[started]) <= start) started++;
+                while (ended < segments && ends[ended] <= start) ended++;
+                int waiting = arrived - completed - (started - ended); // all in the system but those running
+
+                dispatches++;
+                int cpu = timeline.getCpu(i);
+                if (lastEnd[cpu] == start) contextSwitches++;
+                lastEnd[cpu] = timeline.getEnd(i);
+                readyQueueTotal += waiting;
+                maxReadyQueue = Math.max(maxReadyQueue, waiting);
+            }
+        }
+
+        if (metrics) {
+            Metrics.add(algorithm, "runs", 1);
+            Metrics.add(algorithm, "runNanos", System.nanoTime() - startNanos);
+            Metrics.add(algorithm, "dispatches", dispatches);
+            Metrics.add(algorithm, "contextSwitches", contextSwitches);
+            Metrics.add(algorithm, "readyQueueTotal", readyQueueTotal);
+            Metrics.max(algorithm, "maxReadyQueue", maxReadyQueue);
+            if (result.getSearchStats() != null) Metrics.add(algorithm, "evaluations", evaluations);
+        }
+        if (commit) {
+            event.algorithm = algorithm;
+            event.processes = result.size();
+            event.dispatches = dispatches;
+            event.contextSwitches = contextSwitches;
+            event.maxReadyQueue = maxReadyQueue;
+            event.evaluations = evaluations;
+            event.commit();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package algorithm.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// One scheduler run, from the start of run() to its result
+@Name("scheduler.Run")
+@Label("Scheduler Run")
+@Category("Scheduler")
+public final class SchedulerRunEvent extends jdk.jfr.Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Processes")
+    int processes;
+
+    @Label("Dispatches")
+    @Description("Times a process was given the CPU")
+    long dispatches;
+
+    @Label("Context Switches")
+    @Description("Dispatches that took the CPU straight from another process")
+    long contextSwitches;
+
+    @Label("Max Ready Queue")
+    @Description("Most processes waiting at a dispatch")
+    int maxReadyQueue;
+
+    @Label("Evaluations")
+    @Description("Candidate schedules evaluated by a search, 0 for the traditional algorithms")
+    long evaluations;
+}
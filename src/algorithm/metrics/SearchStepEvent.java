@@ -0,0 +1,30 @@
+package algorithm.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// A completed iteration of a search: an ACO iteration, a GA generation or an SA temperature step or round
+@Name("scheduler.SearchStep")
+@Label("Search Step")
+@Category("Scheduler")
+public final class SearchStepEvent extends jdk.jfr.Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Step")
+    long step;
+
+    @Label("Best Fitness")
+    long bestFitness;
+
+    public static void emit(String algorithm, long step, long bestFitness) {
+        SearchStepEvent event = new SearchStepEvent();
+        if (!event.isEnabled()) return;
+        event.algorithm = algorithm;
+        event.step = step;
+        event.bestFitness = bestFitness;
+        event.commit();
+    }
+}
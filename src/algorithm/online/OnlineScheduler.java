@@ -0,0 +1,242 @@
+package algorithm.online;
+
+import algorithm.SchedulerParameters;
+import algorithm.SchedulerRegistry;
+import model.Process;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streaming counterpart of the traditional schedulers (FCFS, SJF, Round Robin
+ * and both priority variants) for processes that keep arriving: arrivals are
+ * submitted one at a time, in arrival-time order, and DISPATCH / COMPLETION
+ * events are handed to a sink as soon as they are decided.
+ *
+ * A decision at time t can only be made once every arrival at or before t is
+ * known, so it is emitted when a later arrival is submitted, when the caller
+ * moves the clock on with {@link #advanceTo(int)}, or on {@link #close()}.
+ * Only the processes currently ready or running are held in memory.
+ *
+ * For a workload listed in arrival order the events match the batch
+ * schedulers exactly; ties are broken by submission order where the batch
+ * versions use the row index.
+ */
+public final class OnlineScheduler {
+
+    // Order of the ready set: the heap key, ties by submission (or re-queue) order
+    private enum Order { ARRIVAL, SHORTEST_BURST, LOWER_PRIORITY_NUMBER, HIGHER_PRIORITY_NUMBER }
+
+    private static final int NO_QUANTUM = Integer.MAX_VALUE;
+
+    private final Order order;
+    private final int quantum;
+    private final boolean preemptive;
+    private final Consumer<ScheduleEvent> sink;
+
+    private final ReadySet processes = new ReadySet(64);
+    private long nextSequence = 0;
+
+    private int clock = 0;
+    private int running = -1;
+    private int runStart = 0;
+    private int watermark = Integer.MIN_VALUE;
+    private boolean closed = false;
+
+    private long submitted = 0;
+    private long completed = 0;
+    private long totalWaiting = 0;
+    private long totalTurnaround = 0;
+
+    private OnlineScheduler(Order order, int quantum, boolean preemptive, Consumer<ScheduleEvent> sink) {
+        this.order = order;
+        this.quantum = quantum;
+        this.preemptive = preemptive;
+        this.sink = sink;
+    }
+
+    // ===== Factories =====
+
+    public static OnlineScheduler fcfs(Consumer<ScheduleEvent> sink) {
+        return new OnlineScheduler(Order.ARRIVAL, NO_QUANTUM, false, sink);
+    }
+
+    public static OnlineScheduler sjf(Consumer<ScheduleEvent> sink) {
+        return new OnlineScheduler(Order.SHORTEST_BURST, NO_QUANTUM, false, sink);
+    }
+
+    public static OnlineScheduler roundRobin(int timeQuantum, Consumer<ScheduleEvent> sink) {
+        if (timeQuantum <= 0) throw new IllegalArgumentException("time quantum must be positive");
+        return new OnlineScheduler(Order.ARRIVAL, timeQuantum, false, sink);
+    }
+
+    public static OnlineScheduler priority(boolean lowerNumberHigherPriority, boolean preemptive,
+                                           Consumer<ScheduleEvent> sink) {
+        Order order = lowerNumberHigherPriority ? Order.LOWER_PRIORITY_NUMBER : Order.HIGHER_PRIORITY_NUMBER;
+        return new OnlineScheduler(order, NO_QUANTUM, preemptive, sink);
+    }
+
+    // Online version of a registered scheduler (FCFS, SJF, RR, PNP or PP), looked up by name
+    public static OnlineScheduler of(String name, SchedulerParameters parameters, Consumer<ScheduleEvent> sink) {
+        String scheduler = SchedulerRegistry.get(name).name();
+        switch (scheduler) {
+            case "FCFS": return fcfs(sink);
+            case "SJF": return sjf(sink);
+            case "RR": return roundRobin(parameters.getTimeQuantum(), sink);
+            case "PNP": return priority(parameters.isLowerNumberHigherPriority(), false, sink);
+            case "PP": return priority(parameters.isLowerNumberHigherPriority(), true, sink);
+            default: throw new IllegalArgumentException(name + " has no online mode");
+        }
+    }
+
+    // ===== Input =====
+
+    public void submit(Process process) {
+        submit(process.getPid(), process.getArrivalTime(), process.getBurstTime(), process.getPriority());
+    }
+
+    // Arrivals must come in non-decreasing arrival time and not before the last advanceTo()
+    public void submit(int pid, int arrivalTime, int burstTime, int priority) {
+        if (closed) throw new IllegalStateException("scheduler is closed");
+        if (burstTime < 0) throw new IllegalArgumentException("negative burst time for pid " + pid);
+        if (arrivalTime < watermark) {
+            throw new IllegalArgumentException("pid " + pid + " arrives at " + arrivalTime
+                    + ", before time " + watermark + " already scheduled");
+        }
+        watermark = arrivalTime;
+        advance(arrivalTime);
+        if (running == -1) clock = arrivalTime; // CPU idle or waiting for this instant's arrivals
+
+        int slot = processes.allocate(pid, arrivalTime, burstTime, priority, keyOf(burstTime, priority), nextSequence++);
+        processes.push(slot);
+        submitted++;
+
+        // A better arrival takes the CPU now, unless the running process finishes at this instant anyway
+        if (preemptive && running != -1 && runStart + processes.remainingTime[running] > arrivalTime
+                && processes.before(slot, running)) {
+            processes.remainingTime[running] -= arrivalTime - runStart;
+            processes.push(running);
+            running = -1;
+            clock = arrivalTime;
+        }
+    }
+
+    // Declares that no arrival before the given time is still to come, so earlier decisions can be emitted
+    public void advanceTo(int time) {
+        if (closed) throw new IllegalStateException("scheduler is closed");
+        if (time < watermark) return;
+        watermark = time;
+        advance(time);
+    }
+
+    // Ends the input and runs every process still held to completion
+    public void close() {
+        if (closed) return;
+        closed = true;
+        advance(Long.MAX_VALUE);
+    }
+
+    // ===== Simulation =====
+
+    // Makes every decision strictly before the limit; decisions at the limit may still see new arrivals
+    private void advance(long limit) {
+        while (true) {
+            if (running == -1) {
+                if (processes.isEmpty() || clock >= limit) return;
+                running = processes.poll();
+                runStart = clock;
+                emit(ScheduleEvent.Type.DISPATCH, running);
+            }
+
+            int remaining = processes.remainingTime[running];
+            int slice = Math.min(remaining, quantum);
+            long end = (long) runStart + slice;
+            if (end >= limit) return;
+
+            clock = (int) end;
+            processes.remainingTime[running] = remaining - slice;
+            if (remaining == slice) {
+                complete(running);
+            } else {
+                processes.sequence[running] = nextSequence++; // slice used up: back of the queue
+                processes.push(running);
+            }
+            running = -1;
+        }
+    }
+
+    private void complete(int slot) {
+        int turnaround = clock - processes.arrivalTime[slot];
+        completed++;
+        totalTurnaround += turnaround;
+        totalWaiting += turnaround - processes.burstTime[slot];
+        emit(ScheduleEvent.Type.COMPLETION, slot);
+        processes.release(slot);
+    }
+
+    private void emit(ScheduleEvent.Type type, int slot) {
+        sink.accept(new ScheduleEvent(type, clock, processes.pid[slot], processes.arrivalTime[slot],
+                processes.burstTime[slot], processes.priority[slot], processes.remainingTime[slot]));
+    }
+
+    private int keyOf(int burstTime, int priority) {
+        switch (order) {
+            case SHORTEST_BURST: return burstTime;
+            case LOWER_PRIORITY_NUMBER: return priority;
+            case HIGHER_PRIORITY_NUMBER: return ~priority;
+            default: return 0;
+        }
+    }
+
+    // ===== Running statistics =====
+
+    // Time of the latest decision
+    public int getTime() { return clock; }
+
+    public long getSubmittedCount() { return submitted; }
+    public long getCompletedCount() { return completed; }
+
+    // Processes submitted but not yet completed (ready or running)
+    public int getPendingCount() { return processes.inUse(); }
+
+    public double getAverageWaitingTime() {
+        return completed == 0 ? 0.0 : (double) totalWaiting / completed;
+    }
+
+    public double getAverageTurnaroundTime() {
+        return completed == 0 ? 0.0 : (double) totalTurnaround / completed;
+    }
+
+    // ===== Pull adapter =====
+
+    /*
+     * Lazily schedules an arrival iterator: arrivals are only pulled when no decided event is
+     * waiting, so at most the events of one step (one arrival, or the final drain) are buffered.
+     * The factory receives the sink to build the scheduler with, e.g. OnlineScheduler::sjf.
+     */
+    public static Iterator<ScheduleEvent> events(Iterator<? extends Process> arrivals,
+                                                 Function<Consumer<ScheduleEvent>, OnlineScheduler> factory) {
+        ArrayDeque<ScheduleEvent> decided = new ArrayDeque<>();
+        OnlineScheduler scheduler = factory.apply(decided::add);
+
+        return new Iterator<ScheduleEvent>() {
+            @Override
+            public boolean hasNext() {
+                while (decided.isEmpty() && !scheduler.closed) {
+                    if (arrivals.hasNext()) scheduler.submit(arrivals.next());
+                    else scheduler.close();
+                }
+                return !decided.isEmpty();
+            }
+
+            @Override
+            public ScheduleEvent next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return decided.poll();
+            }
+        };
+    }
+}
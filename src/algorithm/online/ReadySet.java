@@ -0,0 +1,126 @@
+package algorithm.online;
+
+import java.util.Arrays;
+
+/**
+ * Processes an OnlineScheduler currently holds (ready or running), stored in
+ * recycled slots of primitive columns, plus a min-heap of the ready slots
+ * ordered by (key, sequence number).
+ *
+ * Slots are reused as soon as a process completes, so memory follows the peak
+ * number of processes in the system rather than the number ever submitted.
+ */
+class ReadySet {
+
+    int[] pid;
+    int[] arrivalTime;
+    int[] burstTime;
+    int[] priority;
+    int[] remainingTime;
+    int[] key;
+    long[] sequence;
+
+    private int[] free;
+    private int freeCount;
+    private int allocated;
+
+    private int[] heap;
+    private int size;
+
+    ReadySet(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        pid = new int[capacity];
+        arrivalTime = new int[capacity];
+        burstTime = new int[capacity];
+        priority = new int[capacity];
+        remainingTime = new int[capacity];
+        key = new int[capacity];
+        sequence = new long[capacity];
+        free = new int[capacity];
+        heap = new int[capacity];
+    }
+
+    // ===== Slots =====
+
+    int allocate(int p, int arrival, int burst, int pr, int k, long seq) {
+        int slot;
+        if (freeCount > 0) {
+            slot = free[--freeCount];
+        } else {
+            if (allocated == pid.length) grow();
+            slot = allocated++;
+        }
+        pid[slot] = p;
+        arrivalTime[slot] = arrival;
+        burstTime[slot] = burst;
+        priority[slot] = pr;
+        remainingTime[slot] = burst;
+        key[slot] = k;
+        sequence[slot] = seq;
+        return slot;
+    }
+
+    void release(int slot) {
+        free[freeCount++] = slot;
+    }
+
+    // Slots currently holding a process
+    int inUse() {
+        return allocated - freeCount;
+    }
+
+    private void grow() {
+        int capacity = pid.length * 2;
+        pid = Arrays.copyOf(pid, capacity);
+        arrivalTime = Arrays.copyOf(arrivalTime, capacity);
+        burstTime = Arrays.copyOf(burstTime, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        remainingTime = Arrays.copyOf(remainingTime, capacity);
+        key = Arrays.copyOf(key, capacity);
+        sequence = Arrays.copyOf(sequence, capacity);
+        free = Arrays.copyOf(free, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+    }
+
+    // ===== Ready heap =====
+
+    // Whether slot a runs before slot b: smaller key, then earlier sequence number
+    boolean before(int a, int b) {
+        return key[a] != key[b] ? key[a] < key[b] : sequence[a] < sequence[b];
+    }
+
+    void push(int slot) {
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(slot, heap[parent])) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = slot;
+    }
+
+    int peek() {
+        if (size == 0) throw new IllegalStateException("no ready process");
+        return heap[0];
+    }
+
+    int poll() {
+        int top = peek();
+        int last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && before(heap[child + 1], heap[child])) child++;
+            if (!before(heap[child], last)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+
+    boolean isEmpty() { return size == 0; }
+    int size() { return size; }
+}
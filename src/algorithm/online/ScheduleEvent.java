@@ -0,0 +1,52 @@
+package algorithm.online;
+
+/**
+ * One scheduling decision reported by an {@link OnlineScheduler}: a process was
+ * given the CPU (DISPATCH) or finished (COMPLETION) at the given time.
+ *
+ * A process that is preempted, or whose Round Robin slice runs out, simply
+ * stops running at the time of the next DISPATCH.
+ */
+public final class ScheduleEvent {
+
+    public enum Type { DISPATCH, COMPLETION }
+
+    private final Type type;
+    private final int time;
+    private final int pid;
+    private final int arrivalTime;
+    private final int burstTime;
+    private final int priority;
+    private final int remainingTime;
+
+    ScheduleEvent(Type type, int time, int pid, int arrivalTime, int burstTime, int priority, int remainingTime) {
+        this.type = type;
+        this.time = time;
+        this.pid = pid;
+        this.arrivalTime = arrivalTime;
+        this.burstTime = burstTime;
+        this.priority = priority;
+        this.remainingTime = remainingTime;
+    }
+
+    public Type getType() { return type; }
+    public int getTime() { return time; }
+    public int getPid() { return pid; }
+    public int getArrivalTime() { return arrivalTime; }
+    public int getBurstTime() { return burstTime; }
+    public int getPriority() { return priority; }
+
+    // Burst time still to run when the event happened (0 for a completion)
+    public int getRemainingTime() { return remainingTime; }
+
+    // Only meaningful for completions, where the event time is the completion time
+    public int getTurnaroundTime() { return time - arrivalTime; }
+    public int getWaitingTime() { return time - arrivalTime - burstTime; }
+
+    @Override
+    public String toString() {
+        return type == Type.DISPATCH
+                ? time + " DISPATCH pid=" + pid + " remaining=" + remainingTime
+                : time + " COMPLETION pid=" + pid + " turnaround=" + getTurnaroundTime() + " waiting=" + getWaitingTime();
+    }
+}
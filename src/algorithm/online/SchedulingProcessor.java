@@ -0,0 +1,71 @@
+package algorithm.online;
+
+import model.Process;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Flow adapter for an OnlineScheduler: subscribes to a publisher of arriving
+ * processes and publishes the resulting schedule events.
+ *
+ * Arrivals are requested one at a time and only after the events they release
+ * have been handed to the subscribers' buffers, so a slow subscriber slows the
+ * upstream publisher down instead of letting events pile up.
+ */
+public class SchedulingProcessor extends SubmissionPublisher<ScheduleEvent>
+        implements Flow.Processor<Process, ScheduleEvent> {
+
+    private final OnlineScheduler scheduler;
+    private Flow.Subscription subscription;
+
+    // The factory receives the sink to build the scheduler with, e.g. OnlineScheduler::fcfs
+    public SchedulingProcessor(Function<Consumer<ScheduleEvent>, OnlineScheduler> factory) {
+        this.scheduler = factory.apply(this::submit);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(Process arrival) {
+        try {
+            scheduler.submit(arrival);
+        } catch (RuntimeException ex) {
+            subscription.cancel();
+            closeExceptionally(ex);
+            return;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        closeExceptionally(error);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            scheduler.close();
+        } catch (RuntimeException ex) {
+            closeExceptionally(ex);
+            return;
+        }
+        close();
+    }
+
+    // The scheduler behind the processor; its statistics are updated on the upstream publisher's thread
+    public OnlineScheduler getScheduler() {
+        return scheduler;
+    }
+}
@@ -0,0 +1,79 @@
+package algorithm.simulation;
+
+import model.ProcessTable;
+
+/**
+ * A set of identical CPUs ordered by the time each one next becomes free,
+ * earliest first and ties to the lowest CPU index. Non-preemptive schedulers
+ * on several CPUs give each decision to the CPU that frees up first; with a
+ * heap that choice is O(log m) rather than a scan over all m clocks.
+ *
+ * Also decodes a permutation into a multiprocessor schedule (list
+ * scheduling): rows are dispatched in the given order, each to the CPU that
+ * is free first, so a metaheuristic's order-only encoding implies the CPU
+ * assignment as well. With one CPU this is exactly the single-CPU evaluation
+ * of ProcessTable.
+ */
+public class CpuPool {
+
+    private final int count;
+    private final LongHeap free;
+
+    public CpuPool(int count) {
+        if (count < 1) throw new IllegalArgumentException("cpu count must be at least 1");
+        this.count = count;
+        this.free = new LongHeap(count);
+        reset();
+    }
+
+    // Every CPU free at time 0
+    public void reset() {
+        free.clear();
+        for (int cpu = 0; cpu < count; cpu++) free.push(LongHeap.pack(0, cpu));
+    }
+
+    public int size() { return count; }
+
+    // Time the first CPU becomes free; only valid while some CPU is not acquired
+    public int nextFreeTime() { return LongHeap.key(free.peek()); }
+
+    // Takes the CPU that becomes free first out of the pool
+    public int acquire() { return LongHeap.row(free.poll()); }
+
+    // Puts a CPU back, busy until the given time
+    public void release(int cpu, int freeAt) { free.push(LongHeap.pack(freeAt, cpu)); }
+
+    // Total turnaround of running the rows in the given order, each on the first free CPU
+    public long totalTurnaround(ProcessTable table, int[] permutation) {
+        if (count == 1) return table.totalTurnaround(permutation);
+        reset();
+        long totalTurnaround = 0;
+        for (int row : permutation) {
+            int start = Math.max(nextFreeTime(), table.getArrivalTime(row));
+            int end = start + table.getBurstTime(row);
+            release(acquire(), end);
+            totalTurnaround += end - table.getArrivalTime(row);
+        }
+        return totalTurnaround;
+    }
+
+    // As above, filling the table's result columns, CPU assignment and dispatch order
+    public void applyOrder(ProcessTable table, int[] permutation) {
+        table.setCpuCount(count);
+        if (count == 1) {
+            table.applyOrder(permutation);
+            return;
+        }
+        reset();
+        for (int k = 0; k < permutation.length; k++) {
+            int row = permutation[k];
+            int start = Math.max(nextFreeTime(), table.getArrivalTime(row));
+            int end = start + table.getBurstTime(row);
+            int cpu = acquire();
+            release(cpu, end);
+            table.recordSlice(row, cpu, start, end);
+            table.complete(row, end);
+            table.setOrder(k, row);
+        }
+    }
+}
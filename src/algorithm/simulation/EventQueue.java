@@ -0,0 +1,50 @@
+package algorithm.simulation;
+
+import model.ProcessTable;
+
+/**
+ * Time-ordered queue of simulation events. Schedulers built on it advance the
+ * clock straight from one event to the next, so their running time depends on
+ * the number of arrivals and completions, not on the length of the timeline.
+ *
+ * Events at the same time come out arrivals first, then by row index. Each
+ * event is a single packed long: time in the high 32 bits, kind and row below.
+ */
+public class EventQueue {
+
+    public static final int ARRIVAL = 0;
+    public static final int COMPLETION = 1;
+
+    private final LongHeap heap;
+
+    public EventQueue(int initialCapacity) {
+        heap = new LongHeap(initialCapacity);
+    }
+
+    // Queue holding one arrival event per row of the table
+    public static EventQueue arrivalsOf(ProcessTable table) {
+        EventQueue events = new EventQueue(table.size() + 1);
+        for (int i = 0; i < table.size(); i++) events.push(table.getArrivalTime(i), ARRIVAL, i);
+        return events;
+    }
+
+    public void push(int time, int kind, int row) {
+        heap.push(LongHeap.pack(time, (kind << 31) | row));
+    }
+
+    public long poll() { return heap.poll(); }
+    public long peek() { return heap.peek(); }
+    public int peekTime() { return time(heap.peek()); }
+
+    // Drops every event at or before the given time, e.g. arrivals a caller has already admitted
+    public void discardUntil(int time) {
+        while (!heap.isEmpty() && time(heap.peek()) <= time) heap.poll();
+    }
+
+    public boolean isEmpty() { return heap.isEmpty(); }
+    public int size() { return heap.size(); }
+
+    public static int time(long event) { return LongHeap.key(event); }
+    public static int kind(long event) { return LongHeap.row(event) >>> 31; }
+    public static int row(long event) { return LongHeap.row(event) & Integer.MAX_VALUE; }
+}
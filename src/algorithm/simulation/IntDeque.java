@@ -0,0 +1,59 @@
+package algorithm.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Double-ended queue of primitive ints in a ring buffer, for ready queues of
+ * row indices. The capacity is kept a power of two so wrapping around is a
+ * mask rather than a division, and it doubles when full.
+ */
+public class IntDeque {
+
+    private int[] elements;
+    private int head;
+    private int size;
+
+    public IntDeque(int initialCapacity) {
+        elements = new int[Integer.highestOneBit(Math.max(2, initialCapacity) - 1) << 1];
+    }
+
+    public void addLast(int value) {
+        if (size == elements.length) grow();
+        elements[(head + size++) & (elements.length - 1)] = value;
+    }
+
+    public void addFirst(int value) {
+        if (size == elements.length) grow();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+    }
+
+    public int peekFirst() {
+        if (size == 0) throw new IllegalStateException("deque is empty");
+        return elements[head];
+    }
+
+    public int pollFirst() {
+        int first = peekFirst();
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return first;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    // Doubles the buffer; elements that had wrapped around to the front move up behind the rest
+    private void grow() {
+        int[] larger = Arrays.copyOf(elements, elements.length * 2);
+        int wrapped = head + size - elements.length;
+        if (wrapped > 0) System.arraycopy(elements, 0, larger, elements.length, wrapped);
+        elements = larger;
+    }
+}
@@ -0,0 +1,63 @@
+package algorithm.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of primitive longs. Callers pack their ordering key into the
+ * high bits and a row index into the low bits, so ties fall back to row order
+ * without any boxing or comparator calls.
+ */
+public class LongHeap {
+
+    private long[] heap;
+    private int size;
+
+    public LongHeap(int initialCapacity) {
+        heap = new long[Math.max(1, initialCapacity)];
+    }
+
+    // Packs an int key and a row index so that heap order is (key, row)
+    public static long pack(int key, int row) {
+        return ((long) key << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    public static int key(long packed) { return (int) (packed >> 32); }
+    public static int row(long packed) { return (int) packed; }
+
+    public void push(long value) {
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    public long peek() {
+        if (size == 0) throw new IllegalStateException("heap is empty");
+        return heap[0];
+    }
+
+    public long poll() {
+        long top = peek();
+        long last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (last <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public void clear() { size = 0; }
+}
@@ -1,29 +1,47 @@
 package algorithm.traditional;
 
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.metrics.RunProbe;
 import model.Process;
+import model.ProcessTable;
+import algorithm.simulation.CpuPool;
 import java.util.*;
 
-public class FCFS {
+public class FCFS implements Scheduler {
+
+    // ===== Scheduler SPI =====
+
+    @Override
+    public String name() { return "FCFS"; }
+
+    @Override
+    public String displayName() { return "FCFS"; }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        schedule(result, parameters.getCpuCount());
+        return probe.end(new ScheduleResult(displayName(), result));
+    }
 
     public static void schedule(List<Process> processes) {
         processes.sort(Comparator.comparingInt(Process::getArrivalTime));
 
-        int currentTime = 0;
-        for (Process p : processes) {
-            if (currentTime < p.getArrivalTime()) {
-                currentTime = p.getArrivalTime();
-            }
-
-            int completionTime = currentTime + p.getBurstTime();
-            int turnaroundTime = completionTime - p.getArrivalTime();
-            int waitingTime = turnaroundTime - p.getBurstTime();
+        ProcessTable table = ProcessTable.fromList(processes);
+        schedule(table);
+        table.copyResultsTo(processes);
+    }
 
-            p.setCompletionTime(completionTime);
-            p.setTurnaroundTime(turnaroundTime);
-            p.setWaitingTime(waitingTime);
+    public static void schedule(ProcessTable table) {
+        schedule(table, 1);
+    }
 
-            currentTime = completionTime;
-        }
+    public static void schedule(ProcessTable table, int cpuCount) {
+        // Run in arrival order, ties kept in row order, each on the CPU that frees up first
+        new CpuPool(cpuCount).applyOrder(table, table.rowsByArrival());
     }
 
     public static void printResults(List<Process> processes) {
@@ -0,0 +1,319 @@
+package algorithm.traditional;
+
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.metrics.RunProbe;
+import model.Process;
+import model.ProcessTable;
+import algorithm.simulation.LongHeap;
+import java.util.*;
+
+/**
+ * Multi-level feedback queue. Arrivals enter the top level (0); a process that
+ * uses up its level's quantum drops one level, and the bottom level is plain
+ * Round Robin. A higher level always runs first and preempts a lower one, and
+ * the preempted process keeps its place at the front of its level along with
+ * the rest of its quantum. Every boost interval all processes go back to the
+ * top level, so long jobs cannot starve.
+ *
+ * Each process joins the back of the top level at its own arrival time, ties
+ * in row order, ahead of any process whose quantum ends at that instant; a
+ * zero-burst process completes as it arrives. Round Robin instead admits all
+ * arrivals since its last decision together, in row order, so with a single
+ * level the two can differ when several processes arrive during one quantum.
+ *
+ * Levels holding a process are the set bits of a long, so the next level to
+ * serve is one numberOfTrailingZeros rather than a scan over the levels. Each
+ * level is a linked list threaded through the rows, so a boost splices the
+ * levels together instead of touching every waiting process. The clock jumps
+ * between arrivals, quantum ends and boosts.
+ */
+public class MLFQ implements Scheduler {
+
+    // Non-empty levels are tracked as the bits of one long
+    public static final int MAX_LEVELS = Long.SIZE;
+
+    // ===== Scheduler SPI =====
+
+    @Override
+    public String name() { return "MLFQ"; }
+
+    @Override
+    public String displayName() { return "Multi-Level Feedback Queue"; }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        schedule(result, parameters.getMlfqQuanta(), parameters.getMlfqBoostInterval(), parameters.getCpuCount());
+        return probe.end(new ScheduleResult(displayName(), result));
+    }
+
+    public static void schedule(List<Process> processes, int[] quanta, int boostInterval) {
+        ProcessTable table = ProcessTable.fromList(processes);
+        schedule(table, quanta, boostInterval);
+        table.copyResultsTo(processes);
+    }
+
+    public static void schedule(ProcessTable table, int[] quanta, int boostInterval) {
+        schedule(table, quanta, boostInterval, 1);
+    }
+
+    /*
+     * One set of level queues shared by all CPUs. At every event, processes whose quantum ran
+     * out are re-queued after that instant's arrivals, idle CPUs take the first process of the
+     * highest non-empty level, lowest CPU first, and then the CPU running the lowest level is
+     * preempted while a higher level is still waiting.
+     */
+    public static void schedule(ProcessTable table, int[] quanta, int boostInterval, int cpuCount) {
+        if (quanta.length < 1 || quanta.length > MAX_LEVELS) {
+            throw new IllegalArgumentException("MLFQ needs between 1 and " + MAX_LEVELS + " levels");
+        }
+        for (int quantum : quanta) {
+            if (quantum < 1) throw new IllegalArgumentException("time quantum must be positive");
+        }
+        if (boostInterval < 0) throw new IllegalArgumentException("boost interval must not be negative");
+        new Simulation(table, quanta, boostInterval, cpuCount).run();
+    }
+
+    private static final class Simulation {
+
+        private final ProcessTable table;
+        private final int[] quanta;
+        private final int boostInterval;
+        private final int n;
+
+        private final int[] remainingTime;
+        private final int[] level;
+        private final int[] allotment;      // what is left of the quantum at the row's level
+        private long nonEmpty = 0;          // bit l set while level l has a process waiting
+
+        // Level queues as singly linked lists over the rows
+        private final int[] first;
+        private final int[] last;
+        private final int[] nextInQueue;
+
+        // Waiting rows whose level and allotment were set before the latest boost are really
+        // at the top level with a fresh quantum; that is applied when they are dispatched
+        private final int[] queuedInEpoch;
+        private int boostEpoch = 0;
+
+        private final int[] running;        // row on each CPU, -1 when idle
+        private final int[] runStart;
+        private final int[] runEnd;
+        private final LongHeap idle;
+        private int busy = 0;
+
+        // Quantum ends keyed (end, cpu) and running levels as a max-heap of complemented
+        // (level, cpu); entries of runs that were cut short are skipped lazily
+        private final LongHeap sliceEnds;
+        private final LongHeap victims;
+
+        private int completed = 0;
+
+        Simulation(ProcessTable table, int[] quanta, int boostInterval, int cpuCount) {
+            this.table = table;
+            this.quanta = quanta;
+            this.boostInterval = boostInterval;
+            this.n = table.size();
+            table.setCpuCount(cpuCount);
+
+            remainingTime = new int[n];
+            for (int i = 0; i < n; i++) remainingTime[i] = table.getBurstTime(i);
+            level = new int[n];
+            allotment = new int[n];
+            first = new int[quanta.length];
+            last = new int[quanta.length];
+            Arrays.fill(first, -1);
+            nextInQueue = new int[n];
+            queuedInEpoch = new int[n];
+
+            running = new int[cpuCount];
+            Arrays.fill(running, -1);
+            runStart = new int[cpuCount];
+            runEnd = new int[cpuCount];
+            idle = new LongHeap(cpuCount);
+            for (int cpu = 0; cpu < cpuCount; cpu++) idle.push(cpu);
+            sliceEnds = new LongHeap(cpuCount);
+            victims = new LongHeap(cpuCount);
+        }
+
+        void run() {
+            int[] byArrival = table.rowsByArrival();
+            int next = 0;
+            long nextBoost = boostInterval > 0 ? boostInterval : Long.MAX_VALUE;
+
+            while (completed < n) {
+                while (!sliceEnds.isEmpty() && !isCurrent(sliceEnds.peek())) sliceEnds.poll();
+                long event = next < n ? table.getArrivalTime(byArrival[next]) : Long.MAX_VALUE;
+                if (!sliceEnds.isEmpty()) event = Math.min(event, LongHeap.key(sliceEnds.peek()));
+                if (busy > 0 || nonEmpty != 0) event = Math.min(event, nextBoost);
+                int currentTime = (int) event;
+
+                // Arrivals at this instant enter the top level with a fresh quantum, ties in row order
+                while (next < n && table.getArrivalTime(byArrival[next]) <= currentTime) {
+                    int row = byArrival[next++];
+                    if (remainingTime[row] == 0) {
+                        finish(row, currentTime);
+                    } else {
+                        enqueue(row, 0, false);
+                    }
+                }
+
+                while (!sliceEnds.isEmpty() && LongHeap.key(sliceEnds.peek()) == currentTime) {
+                    long sliceEnd = sliceEnds.poll();
+                    if (!isCurrent(sliceEnd)) continue;
+                    int cpu = LongHeap.row(sliceEnd);
+                    int row = stop(cpu, currentTime);
+                    idle.push(cpu);
+                    if (remainingTime[row] == 0) {
+                        finish(row, currentTime);
+                    } else {
+                        // Quantum used up: one level down, round the bottom level again
+                        enqueue(row, Math.min(level[row] + 1, quanta.length - 1), false);
+                    }
+                }
+
+                if (currentTime >= nextBoost) {
+                    boost(currentTime);
+                    nextBoost = ((long) currentTime / boostInterval + 1) * boostInterval;
+                }
+
+                dispatch(currentTime);
+            }
+        }
+
+        // Gives idle CPUs, then CPUs running a lower level, to the highest levels waiting
+        private void dispatch(int currentTime) {
+            while (nonEmpty != 0) {
+                int top = Long.numberOfTrailingZeros(nonEmpty);
+                int cpu;
+                if (!idle.isEmpty()) {
+                    cpu = (int) idle.poll();
+                } else {
+                    while (!victims.isEmpty() && !isRunningAt(~victims.peek())) victims.poll();
+                    if (victims.isEmpty() || LongHeap.key(~victims.peek()) <= top) return;
+                    cpu = LongHeap.row(~victims.poll());
+                    int preempted = stop(cpu, currentTime);
+                    enqueue(preempted, level[preempted], true);
+                }
+
+                int row = first[top];
+                first[top] = nextInQueue[row];
+                if (first[top] == -1) nonEmpty &= ~(1L << top);
+                if (queuedInEpoch[row] != boostEpoch) {
+                    level[row] = 0;
+                    allotment[row] = quanta[0];
+                }
+                running[cpu] = row;
+                runStart[cpu] = currentTime;
+                runEnd[cpu] = currentTime + Math.min(allotment[row], remainingTime[row]);
+                busy++;
+                sliceEnds.push(LongHeap.pack(runEnd[cpu], cpu));
+                victims.push(~LongHeap.pack(level[row], cpu));
+            }
+        }
+
+        // Moves every process, running or queued, to the top level with a fresh quantum
+        private void boost(int currentTime) {
+            boostEpoch++;
+            for (long lower = nonEmpty & ~1L; lower != 0; lower &= lower - 1) {
+                int l = Long.numberOfTrailingZeros(lower);
+                if (first[0] == -1) {
+                    first[0] = first[l];
+                } else {
+                    nextInQueue[last[0]] = first[l];
+                }
+                last[0] = last[l];
+                first[l] = -1;
+            }
+            if (nonEmpty != 0) nonEmpty = 1;
+
+            for (int cpu = 0; cpu < running.length; cpu++) {
+                int row = running[cpu];
+                if (row == -1) continue;
+                charge(cpu, currentTime);
+                level[row] = 0;
+                allotment[row] = quanta[0];
+                runEnd[cpu] = currentTime + Math.min(allotment[row], remainingTime[row]);
+                sliceEnds.push(LongHeap.pack(runEnd[cpu], cpu));
+                victims.push(~LongHeap.pack(0, cpu));
+            }
+        }
+
+        // Queues a row at the back of a level with a fresh quantum, or, when it was preempted,
+        // at the front of its own level with what was left of its quantum
+        private void enqueue(int row, int newLevel, boolean preempted) {
+            level[row] = newLevel;
+            queuedInEpoch[row] = boostEpoch;
+            if (first[newLevel] == -1) {
+                first[newLevel] = last[newLevel] = row;
+                nextInQueue[row] = -1;
+            } else if (preempted) {
+                nextInQueue[row] = first[newLevel];
+                first[newLevel] = row;
+            } else {
+                nextInQueue[last[newLevel]] = row;
+                nextInQueue[row] = -1;
+                last[newLevel] = row;
+            }
+            if (!preempted) allotment[row] = quanta[newLevel];
+            nonEmpty |= 1L << newLevel;
+        }
+
+        // Takes a CPU's process off it, charging the time it ran; returns the row
+        private int stop(int cpu, int currentTime) {
+            int row = running[cpu];
+            charge(cpu, currentTime);
+            running[cpu] = -1;
+            busy--;
+            return row;
+        }
+
+        // Records the run on a CPU up to now and takes it off the row's burst and quantum
+        private void charge(int cpu, int currentTime) {
+            int row = running[cpu];
+            int ran = currentTime - runStart[cpu];
+            table.recordSlice(row, cpu, runStart[cpu], currentTime);
+            remainingTime[row] -= ran;
+            allotment[row] -= ran;
+            runStart[cpu] = currentTime;
+        }
+
+        private void finish(int row, int currentTime) {
+            table.complete(row, currentTime);
+            table.setOrder(completed++, row);
+        }
+
+        private boolean isCurrent(long sliceEnd) {
+            int cpu = LongHeap.row(sliceEnd);
+            return running[cpu] != -1 && runEnd[cpu] == LongHeap.key(sliceEnd);
+        }
+
+        private boolean isRunningAt(long levelAndCpu) {
+            int cpu = LongHeap.row(levelAndCpu);
+            return running[cpu] != -1 && level[running[cpu]] == LongHeap.key(levelAndCpu);
+        }
+    }
+
+    public static void printResults(List<Process> processes) {
+        System.out.println("\nMulti-Level Feedback Queue Scheduling Results:");
+        System.out.println("PID\tAT\tBT\tCT\tTAT\tWT");
+
+        int totalWT = 0, totalTAT = 0;
+
+        for (Process p : processes) {
+            System.out.println(p.getPid() + "\t" + p.getArrivalTime() + "\t" + p.getBurstTime() + "\t" +
+                               p.getCompletionTime() + "\t" + p.getTurnaroundTime() + "\t" + p.getWaitingTime());
+            totalWT += p.getWaitingTime();
+            totalTAT += p.getTurnaroundTime();
+        }
+
+        float avgWT = (float) totalWT / processes.size();
+        float avgTAT = (float) totalTAT / processes.size();
+
+        System.out.printf("Average Waiting Time: %.2f\n", avgWT);
+        System.out.printf("Average Turnaround Time: %.2f\n", avgTAT);
+    }
+}
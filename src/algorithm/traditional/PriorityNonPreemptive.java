@@ -1,59 +1,78 @@
 package algorithm.traditional;
 
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.metrics.RunProbe;
 import model.Process;
+import model.ProcessTable;
+import algorithm.simulation.CpuPool;
+import algorithm.simulation.LongHeap;
 import java.util.*;
 
-public class PriorityNonPreemptive {
+public class PriorityNonPreemptive implements Scheduler {
 
-    public static void schedule(List<Process> processes, boolean lowerNumberHigherPriority) {
-        int n = processes.size();
-        int completed = 0;
-        int currentTime = 0;
-        boolean[] isCompleted = new boolean[n];
-
-        while (completed < n) {
-            int selected = -1;
-            int bestPriority = lowerNumberHigherPriority ? Integer.MAX_VALUE : Integer.MIN_VALUE;
-
-            for (int i = 0; i < n; i++) {
-                Process p = processes.get(i);
-                if (p.getArrivalTime() <= currentTime && !isCompleted[i]) {
-                    int priority = p.getPriority();
-                    if (lowerNumberHigherPriority) {
-                        if (priority < bestPriority) {
-                            bestPriority = priority;
-                            selected = i;
-                        }
-                    } else {
-                        if (priority > bestPriority) {
-                            bestPriority = priority;
-                            selected = i;
-                        }
-                    }
-                }
-            }
+    // ===== Scheduler SPI =====
+
+    @Override
+    public String name() { return "PNP"; }
+
+    @Override
+    public String displayName() { return "Priority (Non-Preemptive)"; }
+
+    @Override
+    public boolean usesPriority() { return true; }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        schedule(result, parameters.isLowerNumberHigherPriority(), parameters.getCpuCount());
+        return probe.end(new ScheduleResult(displayName(), result));
+    }
 
-            if (selected == -1) {
-                currentTime++;
-            } else {
-                Process p = processes.get(selected);
+    public static void schedule(List<Process> processes, boolean lowerNumberHigherPriority) {
+        ProcessTable table = ProcessTable.fromList(processes);
+        schedule(table, lowerNumberHigherPriority);
+        table.copyResultsTo(processes);
+    }
 
-                if (currentTime < p.getArrivalTime()) {
-                    currentTime = p.getArrivalTime();
-                }
+    public static void schedule(ProcessTable table, boolean lowerNumberHigherPriority) {
+        schedule(table, lowerNumberHigherPriority, 1);
+    }
 
-                int completionTime = currentTime + p.getBurstTime();
-                int turnaroundTime = completionTime - p.getArrivalTime();
-                int waitingTime = turnaroundTime - p.getBurstTime();
+    // Each decision goes to the CPU that frees up first, taking the highest priority arrived by then
+    public static void schedule(ProcessTable table, boolean lowerNumberHigherPriority, int cpuCount) {
+        int n = table.size();
+        CpuPool cpus = new CpuPool(cpuCount);
+        table.setCpuCount(cpuCount);
 
-                p.setCompletionTime(completionTime);
-                p.setTurnaroundTime(turnaroundTime);
-                p.setWaitingTime(waitingTime);
+        // Arrivals are admitted through a cursor over the rows sorted by arrival; the ready heap
+        // is keyed on (priority, row) so equal priorities still go to the lowest index
+        int[] byArrival = table.rowsByArrival();
+        LongHeap ready = new LongHeap(n);
+        int next = 0;
+        int currentTime = 0;
 
-                currentTime = completionTime;
-                isCompleted[selected] = true;
-                completed++;
+        for (int completed = 0; completed < n; completed++) {
+            // Decisions never go back in time: a CPU freed earlier is still idle now
+            currentTime = Math.max(currentTime, cpus.nextFreeTime());
+            if (ready.isEmpty() && currentTime < table.getArrivalTime(byArrival[next])) {
+                currentTime = table.getArrivalTime(byArrival[next]); // CPU idle until the next arrival
+            }
+            while (next < n && table.getArrivalTime(byArrival[next]) <= currentTime) {
+                int row = byArrival[next++];
+                int priority = table.getPriority(row);
+                ready.push(LongHeap.pack(lowerNumberHigherPriority ? priority : ~priority, row));
             }
+
+            int selected = LongHeap.row(ready.poll());
+            int end = currentTime + table.getBurstTime(selected);
+            int cpu = cpus.acquire();
+            cpus.release(cpu, end);
+            table.recordSlice(selected, cpu, currentTime, end);
+            table.complete(selected, end);
+            table.setOrder(completed, selected);
         }
     }
 
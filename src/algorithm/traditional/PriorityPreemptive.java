@@ -1,62 +1,133 @@
 package algorithm.traditional;
 
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.metrics.RunProbe;
 import model.Process;
+import model.ProcessTable;
+import algorithm.simulation.EventQueue;
+import algorithm.simulation.LongHeap;
 import java.util.*;
 
-public class PriorityPreemptive {
+public class PriorityPreemptive implements Scheduler {
+
+    // ===== Scheduler SPI =====
+
+    @Override
+    public String name() { return "PP"; }
+
+    @Override
+    public String displayName() { return "Priority (Preemptive)"; }
+
+    @Override
+    public boolean usesPriority() { return true; }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        schedule(result, parameters.isLowerNumberHigherPriority(), parameters.getCpuCount());
+        return probe.end(new ScheduleResult(displayName(), result));
+    }
 
     public static void schedule(List<Process> processes, boolean lowerNumberHigherPriority) {
-        int n = processes.size();
-        int currentTime = 0;
+        ProcessTable table = ProcessTable.fromList(processes);
+        schedule(table, lowerNumberHigherPriority);
+        table.copyResultsTo(processes);
+    }
+
+    public static void schedule(ProcessTable table, boolean lowerNumberHigherPriority) {
+        schedule(table, lowerNumberHigherPriority, 1);
+    }
+
+    /*
+     * One priority-ordered ready queue shared by all CPUs. At every decision idle CPUs take the
+     * best waiting processes, lowest CPU first, and then a waiting process that beats the worst
+     * running one takes its CPU, until no waiting process is better than any running one.
+     */
+    public static void schedule(ProcessTable table, boolean lowerNumberHigherPriority, int cpuCount) {
+        int n = table.size();
         int completed = 0;
-        boolean[] isCompleted = new boolean[n];
+        table.setCpuCount(cpuCount);
         int[] remainingTime = new int[n];
 
         for (int i = 0; i < n; i++) {
-            remainingTime[i] = processes.get(i).getBurstTime();
+            remainingTime[i] = table.getBurstTime(i);
         }
 
-        while (completed < n) {
-            int selected = -1;
-            int bestPriority = lowerNumberHigherPriority ? Integer.MAX_VALUE : Integer.MIN_VALUE;
-
-            for (int i = 0; i < n; i++) {
-                Process p = processes.get(i);
-                if (p.getArrivalTime() <= currentTime && !isCompleted[i] && remainingTime[i] > 0) {
-                    int priority = p.getPriority();
-                    if (lowerNumberHigherPriority) {
-                        if (priority < bestPriority) {
-                            bestPriority = priority;
-                            selected = i;
-                        }
-                    } else {
-                        if (priority > bestPriority) {
-                            bestPriority = priority;
-                            selected = i;
-                        }
-                    }
-                }
+        // Decisions only change at arrivals and completions, so jump between those events
+        EventQueue events = EventQueue.arrivalsOf(table);
+        LongHeap ready = new LongHeap(n);
+
+        // Running processes sit in a max-heap (complemented keys) so the preemption victim is
+        // found in O(log m); entries of processes that stopped running are skipped lazily
+        LongHeap victims = new LongHeap(cpuCount);
+        LongHeap idle = new LongHeap(cpuCount);
+        for (int cpu = 0; cpu < cpuCount; cpu++) idle.push(cpu);
+        int[] cpuOf = new int[n];
+        Arrays.fill(cpuOf, -1);
+        int[] runStart = new int[cpuCount];
+
+        while (!events.isEmpty()) {
+            long event = events.poll();
+            int currentTime = EventQueue.time(event);
+            int row = EventQueue.row(event);
+
+            if (EventQueue.kind(event) == EventQueue.ARRIVAL) {
+                ready.push(readyKey(table, row, lowerNumberHigherPriority));
+            } else if (cpuOf[row] != -1 && currentTime == runStart[cpuOf[row]] + remainingTime[row]) {
+                int cpu = cpuOf[row];
+                remainingTime[row] = 0;
+                table.recordSlice(row, cpu, runStart[cpu], currentTime);
+                table.complete(row, currentTime);
+                table.setOrder(completed++, row);
+                cpuOf[row] = -1;
+                idle.push(cpu);
             }
+            // Any other completion event belongs to a run that was preempted and is ignored
+
+            // Apply every event at this instant before deciding what runs next
+            if (!events.isEmpty() && events.peekTime() == currentTime) continue;
 
-            if (selected == -1) {
-                currentTime++;
-            } else {
-                remainingTime[selected]--;
-                currentTime++;
-
-                if (remainingTime[selected] == 0) {
-                    isCompleted[selected] = true;
-                    completed++;
-
-                    Process p = processes.get(selected);
-                    p.setCompletionTime(currentTime);
-                    p.setTurnaroundTime(currentTime - p.getArrivalTime());
-                    p.setWaitingTime(p.getTurnaroundTime() - p.getBurstTime());
-                }
+            while (!ready.isEmpty() && !idle.isEmpty()) {
+                dispatch(LongHeap.row(ready.poll()), (int) idle.poll(), currentTime,
+                        table, lowerNumberHigherPriority, remainingTime, cpuOf, runStart, victims, events);
+            }
+
+            while (!ready.isEmpty()) {
+                while (!victims.isEmpty() && cpuOf[LongHeap.row(~victims.peek())] == -1) victims.poll();
+                if (victims.isEmpty() || ready.peek() >= ~victims.peek()) break;
+
+                // Preempted by a higher priority arrival
+                long worst = ~victims.poll();
+                int preempted = LongHeap.row(worst);
+                int cpu = cpuOf[preempted];
+                table.recordSlice(preempted, cpu, runStart[cpu], currentTime);
+                remainingTime[preempted] -= currentTime - runStart[cpu];
+                cpuOf[preempted] = -1;
+                ready.push(worst);
+
+                dispatch(LongHeap.row(ready.poll()), cpu, currentTime,
+                        table, lowerNumberHigherPriority, remainingTime, cpuOf, runStart, victims, events);
             }
         }
     }
 
+    private static void dispatch(int row, int cpu, int currentTime, ProcessTable table, boolean lowerNumberHigherPriority,
+                                 int[] remainingTime, int[] cpuOf, int[] runStart, LongHeap victims, EventQueue events) {
+        cpuOf[row] = cpu;
+        runStart[cpu] = currentTime;
+        victims.push(~readyKey(table, row, lowerNumberHigherPriority));
+        events.push(currentTime + remainingTime[row], EventQueue.COMPLETION, row);
+    }
+
+    // Heap key ordered by priority (highest first), then by row like the original index scan
+    private static long readyKey(ProcessTable table, int row, boolean lowerNumberHigherPriority) {
+        int priority = table.getPriority(row);
+        return LongHeap.pack(lowerNumberHigherPriority ? priority : ~priority, row);
+    }
+
     public static void printResults(List<Process> processes) {
         System.out.println("\nPriority (Preemptive) Scheduling Results:");
         System.out.println("PID\tAT\tBT\tPR\tCT\tTAT\tWT");
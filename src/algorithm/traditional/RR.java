@@ -1,72 +1,126 @@
 package algorithm.traditional;
 
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.metrics.RunProbe;
 import model.Process;
+import model.ProcessTable;
+import algorithm.simulation.IntDeque;
+import algorithm.simulation.LongHeap;
 import java.util.*;
 
-public class RR {
+public class RR implements Scheduler {
+
+    // ===== Scheduler SPI =====
+
+    @Override
+    public String name() { return "RR"; }
+
+    @Override
+    public String displayName() { return "Round Robin"; }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        schedule(result, parameters.getTimeQuantum(), parameters.getCpuCount());
+        return probe.end(new ScheduleResult(displayName(), result));
+    }
 
     public static void schedule(List<Process> processes, int timeQuantum) {
-        int n = processes.size();
-        int currentTime = 0;
+        ProcessTable table = ProcessTable.fromList(processes);
+        schedule(table, timeQuantum);
+        table.copyResultsTo(processes);
+    }
+
+    public static void schedule(ProcessTable table, int timeQuantum) {
+        schedule(table, timeQuantum, 1);
+    }
+
+    /*
+     * One FIFO ready queue shared by all CPUs. When slices end, the processes that arrived by
+     * then join the queue first, in row order, and the interrupted ones after them, in CPU order;
+     * idle CPUs then take processes off the front, lowest CPU first. With one CPU this is plain
+     * Round Robin.
+     *
+     * Arrivals are admitted through a cursor over the rows sorted by arrival, so a slice costs
+     * O(log m) plus the arrivals it admits instead of a scan over all n rows. A process that
+     * has the CPUs to itself runs through every quantum that ends before the next arrival in
+     * one step, since it would be dispatched straight back after each of them.
+     */
+    public static void schedule(ProcessTable table, int timeQuantum, int cpuCount) {
+        int n = table.size();
         int completed = 0;
+        table.setCpuCount(cpuCount);
 
         int[] remainingBurst = new int[n];
         for (int i = 0; i < n; i++) {
-            remainingBurst[i] = processes.get(i).getBurstTime();
+            remainingBurst[i] = table.getBurstTime(i);
         }
 
-        Queue<Integer> readyQueue = new LinkedList<>();
-        boolean[] isInQueue = new boolean[n];
-        int[] completionTime = new int[n];
+        IntDeque readyQueue = new IntDeque(Math.min(n, 1024));
+        int[] byArrival = table.rowsByArrival();
+        int next = 0;
 
-        // Start by adding processes which arrive at time 0
-        for (int i = 0; i < n; i++) {
-            if (processes.get(i).getArrivalTime() == 0) {
-                readyQueue.add(i);
-                isInQueue[i] = true;
-            }
-        }
+        // Busy CPUs keyed by the end of their slice, idle CPUs by index
+        LongHeap busy = new LongHeap(cpuCount);
+        LongHeap idle = new LongHeap(cpuCount);
+        for (int cpu = 0; cpu < cpuCount; cpu++) idle.push(cpu);
+        int[] running = new int[cpuCount];
 
         while (completed < n) {
-            if (readyQueue.isEmpty()) {
-                currentTime++;
-                for (int i = 0; i < n; i++) {
-                    if (!isInQueue[i] && remainingBurst[i] > 0 && processes.get(i).getArrivalTime() <= currentTime) {
-                        readyQueue.add(i);
-                        isInQueue[i] = true;
-                    }
+            int nextArrival = next < n ? table.getArrivalTime(byArrival[next]) : Integer.MAX_VALUE;
+            int currentTime;
+            if (busy.isEmpty()) {
+                // Every CPU idle: every arrived process is finished, so jump straight to the next arrival
+                currentTime = nextArrival;
+            } else {
+                currentTime = LongHeap.key(busy.peek());
+                if (!idle.isEmpty() && nextArrival < currentTime) {
+                    currentTime = nextArrival; // an idle CPU picks up an arrival before the next slice ends
                 }
-                continue;
             }
 
-            int idx = readyQueue.poll();
-            Process p = processes.get(idx);
-
-            int execTime = Math.min(timeQuantum, remainingBurst[idx]);
-
-            remainingBurst[idx] -= execTime;
-            currentTime += execTime;
-
-            // Add newly arrived processes to the queue
-            for (int i = 0; i < n; i++) {
-                if (!isInQueue[i] && remainingBurst[i] > 0 && processes.get(i).getArrivalTime() <= currentTime) {
-                    readyQueue.add(i);
-                    isInQueue[i] = true;
+            // Add newly arrived processes to the queue; rows arriving within one slice go in row order
+            int first = next;
+            while (next < n && table.getArrivalTime(byArrival[next]) <= currentTime) next++;
+            if (next - first > 1) Arrays.sort(byArrival, first, next);
+            for (int k = first; k < next; k++) readyQueue.addLast(byArrival[k]);
+
+            while (!busy.isEmpty() && LongHeap.key(busy.peek()) == currentTime) {
+                int cpu = LongHeap.row(busy.poll());
+                int idx = running[cpu];
+                if (remainingBurst[idx] > 0) {
+                    readyQueue.addLast(idx); // Process not finished, add back to queue
+                } else {
+                    table.complete(idx, currentTime);
+                    table.setOrder(completed, idx);
+                    completed++;
                 }
+                idle.push(cpu);
             }
 
-            if (remainingBurst[idx] > 0) {
-                readyQueue.add(idx); // Process not finished, add back to queue
-            } else {
-                completed++;
-                completionTime[idx] = currentTime;
-
-                int tat = completionTime[idx] - p.getArrivalTime();
-                int wt = tat - p.getBurstTime();
+            while (!idle.isEmpty() && !readyQueue.isEmpty()) {
+                int cpu = (int) idle.poll();
+                int idx = readyQueue.pollFirst();
+                int execTime = Math.min(timeQuantum, remainingBurst[idx]);
+
+                if (readyQueue.isEmpty() && busy.isEmpty() && execTime < remainingBurst[idx]) {
+                    // Alone until the next arrival: take every quantum up to the one it arrives in at once
+                    if (next == n) {
+                        execTime = remainingBurst[idx];
+                    } else {
+                        long untilArrival = (long) table.getArrivalTime(byArrival[next]) - currentTime;
+                        long quanta = (untilArrival + timeQuantum - 1) / timeQuantum;
+                        execTime = (int) Math.min(remainingBurst[idx], quanta * timeQuantum);
+                    }
+                }
 
-                p.setCompletionTime(completionTime[idx]);
-                p.setTurnaroundTime(tat);
-                p.setWaitingTime(wt);
+                remainingBurst[idx] -= execTime;
+                table.recordSlice(idx, cpu, currentTime, currentTime + execTime);
+                running[cpu] = idx;
+                busy.push(LongHeap.pack(currentTime + execTime, cpu));
             }
         }
     }
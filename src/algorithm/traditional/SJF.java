@@ -1,53 +1,75 @@
 package algorithm.traditional;
 
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.metrics.RunProbe;
 import model.Process;
+import model.ProcessTable;
+import algorithm.simulation.CpuPool;
+import algorithm.simulation.LongHeap;
 import java.util.*;
 
-public class SJF {
+public class SJF implements Scheduler {
 
-    public static void schedule(List<Process> processes) {
-        int n = processes.size();
-        int completed = 0;
-        int currentTime = 0;
-        boolean[] isCompleted = new boolean[n];
-
-        while (completed != n) {
-            // Find process with minimum burst time among arrived processes and not completed
-            Process shortestProcess = null;
-            int minBurst = Integer.MAX_VALUE;
-            for (int i = 0; i < n; i++) {
-                Process p = processes.get(i);
-                if (p.getArrivalTime() <= currentTime && !isCompleted[i]) {
-                    if (p.getBurstTime() < minBurst) {
-                        minBurst = p.getBurstTime();
-                        shortestProcess = p;
-                    } else if (p.getBurstTime() == minBurst) {
-                        // Tie-breaker by arrival time if needed
-                        if (shortestProcess != null && p.getArrivalTime() < shortestProcess.getArrivalTime()) {
-                            shortestProcess = p;
-                        }
-                    }
-                }
-            }
+    // ===== Scheduler SPI =====
 
-            if (shortestProcess == null) {
-                currentTime++; // no process arrived yet, CPU idle
-            } else {
-                int idx = processes.indexOf(shortestProcess);
+    @Override
+    public String name() { return "SJF"; }
 
-                int startTime = currentTime;
-                int completionTime = startTime + shortestProcess.getBurstTime();
-                int turnaroundTime = completionTime - shortestProcess.getArrivalTime();
-                int waitingTime = turnaroundTime - shortestProcess.getBurstTime();
+    @Override
+    public String displayName() { return "SJF"; }
 
-                shortestProcess.setCompletionTime(completionTime);
-                shortestProcess.setTurnaroundTime(turnaroundTime);
-                shortestProcess.setWaitingTime(waitingTime);
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        schedule(result, parameters.getCpuCount());
+        return probe.end(new ScheduleResult(displayName(), result));
+    }
+
+    public static void schedule(List<Process> processes) {
+        ProcessTable table = ProcessTable.fromList(processes);
+        schedule(table);
+        table.copyResultsTo(processes);
+    }
 
-                currentTime = completionTime;
-                isCompleted[idx] = true;
-                completed++;
+    public static void schedule(ProcessTable table) {
+        schedule(table, 1);
+    }
+
+    // Each decision goes to the CPU that frees up first, taking the shortest job arrived by then
+    public static void schedule(ProcessTable table, int cpuCount) {
+        int n = table.size();
+        CpuPool cpus = new CpuPool(cpuCount);
+        table.setCpuCount(cpuCount);
+
+        // Arrivals are admitted through a cursor over the rows sorted by (arrival, row). The ready
+        // heap is keyed on (burst, position in that order), which is the original tie-breaking:
+        // shortest burst, then earliest arrival, then lowest index.
+        int[] byArrival = table.rowsByArrival();
+        LongHeap ready = new LongHeap(n);
+        int next = 0;
+        int currentTime = 0;
+
+        for (int completed = 0; completed < n; completed++) {
+            // Decisions never go back in time: a CPU freed earlier is still idle now
+            currentTime = Math.max(currentTime, cpus.nextFreeTime());
+            if (ready.isEmpty() && currentTime < table.getArrivalTime(byArrival[next])) {
+                currentTime = table.getArrivalTime(byArrival[next]); // CPU idle until the next arrival
+            }
+            while (next < n && table.getArrivalTime(byArrival[next]) <= currentTime) {
+                ready.push(LongHeap.pack(table.getBurstTime(byArrival[next]), next));
+                next++;
             }
+
+            int shortest = byArrival[LongHeap.row(ready.poll())];
+            int end = currentTime + table.getBurstTime(shortest);
+            int cpu = cpus.acquire();
+            cpus.release(cpu, end);
+            table.recordSlice(shortest, cpu, currentTime, end);
+            table.complete(shortest, end);
+            table.setOrder(completed, shortest);
         }
     }
 
@@ -0,0 +1,176 @@
+package algorithm.traditional;
+
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.metrics.Metrics;
+import algorithm.metrics.RunProbe;
+import model.Process;
+import model.ProcessTable;
+import algorithm.simulation.LongHeap;
+import java.util.*;
+
+/**
+ * Shortest Remaining Time First: preemptive SJF. The process with the least
+ * work left runs; an arrival with strictly less work than a running process
+ * takes its CPU. On one CPU this minimises the average turnaround, and so the
+ * average waiting time, over every schedule of the workload, preemptive or
+ * not, which makes it the reference the other schedulers are measured against.
+ *
+ * Decisions only change at arrivals and completions, so the clock jumps
+ * between those and a run is O(n log n) however long the bursts are.
+ */
+public class SRTF implements Scheduler {
+
+    // ===== Scheduler SPI =====
+
+    @Override
+    public String name() { return "SRTF"; }
+
+    @Override
+    public String displayName() { return "Shortest Remaining Time First"; }
+
+    @Override
+    public ScheduleResult run(ProcessTable workload, SchedulerParameters parameters) {
+        RunProbe probe = RunProbe.begin(name());
+        ProcessTable result = workload.withOwnResults(parameters.isRecordTimeline() || probe.wantsTimeline());
+        long preemptions = schedule(result, parameters.getCpuCount());
+        Metrics.add(name(), "preemptions", preemptions);
+        return probe.end(new ScheduleResult(displayName(), result));
+    }
+
+    public static void schedule(List<Process> processes) {
+        ProcessTable table = ProcessTable.fromList(processes);
+        schedule(table);
+        table.copyResultsTo(processes);
+    }
+
+    public static long schedule(ProcessTable table) {
+        return schedule(table, 1);
+    }
+
+    /*
+     * One ready queue shared by all CPUs, keyed (remaining time, position in arrival order) so
+     * ties go to the earliest arrival and then the lowest index, as in SJF. At every event idle
+     * CPUs take the shortest waiting processes, lowest CPU first, and then a waiting process
+     * shorter than the running process with the most work left takes its CPU. Returns the number
+     * of preemptions, each of which is a context switch that non-preemptive SJF would not make.
+     */
+    public static long schedule(ProcessTable table, int cpuCount) {
+        int n = table.size();
+        int completed = 0;
+        long preemptions = 0;
+        table.setCpuCount(cpuCount);
+
+        // Rows are handled by their position in arrival order, which doubles as the tie-breaker
+        int[] byArrival = table.rowsByArrival();
+        int[] remainingTime = new int[n];
+        for (int k = 0; k < n; k++) remainingTime[k] = table.getBurstTime(byArrival[k]);
+        int next = 0;
+        LongHeap ready = new LongHeap(n);
+
+        // A running process's remaining time is its finish time minus now, so ordering running
+        // processes by finish time orders them by remaining time at every instant. Finishes sit in
+        // a min-heap for the next event and in a max-heap (complemented) for the preemption
+        // victim; entries of runs that were preempted are skipped lazily.
+        int[] running = new int[cpuCount];
+        Arrays.fill(running, -1);
+        int[] runStart = new int[cpuCount];
+        int[] finish = new int[cpuCount];
+        LongHeap finishes = new LongHeap(cpuCount);
+        LongHeap victims = new LongHeap(cpuCount);
+        LongHeap idle = new LongHeap(cpuCount);
+        for (int cpu = 0; cpu < cpuCount; cpu++) idle.push(cpu);
+
+        while (completed < n) {
+            while (!finishes.isEmpty() && !isCurrent(finishes.peek(), running, finish)) finishes.poll();
+            int currentTime;
+            if (finishes.isEmpty()) {
+                currentTime = table.getArrivalTime(byArrival[next]); // every CPU idle: jump to the next arrival
+            } else {
+                currentTime = LongHeap.key(finishes.peek());
+                if (next < n) currentTime = Math.min(currentTime, table.getArrivalTime(byArrival[next]));
+            }
+
+            while (!finishes.isEmpty() && LongHeap.key(finishes.peek()) == currentTime) {
+                long done = finishes.poll();
+                if (!isCurrent(done, running, finish)) continue;
+                int cpu = LongHeap.row(done);
+                int position = running[cpu];
+                int row = byArrival[position];
+                table.recordSlice(row, cpu, runStart[cpu], currentTime);
+                table.complete(row, currentTime);
+                table.setOrder(completed++, row);
+                remainingTime[position] = 0;
+                running[cpu] = -1;
+                idle.push(cpu);
+            }
+
+            while (next < n && table.getArrivalTime(byArrival[next]) <= currentTime) {
+                ready.push(LongHeap.pack(remainingTime[next], next));
+                next++;
+            }
+
+            while (!ready.isEmpty() && !idle.isEmpty()) {
+                dispatch(LongHeap.row(ready.poll()), (int) idle.poll(), currentTime,
+                        remainingTime, running, runStart, finish, finishes, victims);
+            }
+
+            while (!ready.isEmpty()) {
+                while (!victims.isEmpty() && !isCurrent(~victims.peek(), running, finish)) victims.poll();
+                if (victims.isEmpty()) break;
+                int cpu = LongHeap.row(~victims.peek());
+                int victimRemaining = finish[cpu] - currentTime;
+                if (LongHeap.key(ready.peek()) >= victimRemaining) break;
+
+                // Preempted by a shorter arrival
+                victims.poll();
+                int position = running[cpu];
+                table.recordSlice(byArrival[position], cpu, runStart[cpu], currentTime);
+                remainingTime[position] = victimRemaining;
+                running[cpu] = -1;
+                ready.push(LongHeap.pack(victimRemaining, position));
+                preemptions++;
+
+                dispatch(LongHeap.row(ready.poll()), cpu, currentTime,
+                        remainingTime, running, runStart, finish, finishes, victims);
+            }
+        }
+        return preemptions;
+    }
+
+    private static void dispatch(int position, int cpu, int currentTime, int[] remainingTime, int[] running,
+                                 int[] runStart, int[] finish, LongHeap finishes, LongHeap victims) {
+        running[cpu] = position;
+        runStart[cpu] = currentTime;
+        finish[cpu] = currentTime + remainingTime[position];
+        finishes.push(LongHeap.pack(finish[cpu], cpu));
+        victims.push(~LongHeap.pack(finish[cpu], cpu));
+    }
+
+    // Whether a (finish, cpu) entry still describes the run on that CPU
+    private static boolean isCurrent(long entry, int[] running, int[] finish) {
+        int cpu = LongHeap.row(entry);
+        return running[cpu] != -1 && finish[cpu] == LongHeap.key(entry);
+    }
+
+    public static void printResults(List<Process> processes) {
+        System.out.println("\nShortest Remaining Time First Scheduling Results:");
+        System.out.println("PID\tAT\tBT\tCT\tTAT\tWT");
+
+        int totalWT = 0, totalTAT = 0;
+
+        for (Process p : processes) {
+            System.out.println(p.getPid() + "\t" + p.getArrivalTime() + "\t" + p.getBurstTime() + "\t" +
+                               p.getCompletionTime() + "\t" + p.getTurnaroundTime() + "\t" + p.getWaitingTime());
+            totalWT += p.getWaitingTime();
+            totalTAT += p.getTurnaroundTime();
+        }
+
+        float avgWT = (float) totalWT / processes.size();
+        float avgTAT = (float) totalTAT / processes.size();
+
+        System.out.printf("Average Waiting Time: %.2f\n", avgWT);
+        System.out.printf("Average Turnaround Time: %.2f\n", avgTAT);
+    }
+}
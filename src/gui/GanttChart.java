@@ -0,0 +1,152 @@
+package gui;
+
+import algorithm.ScheduleResult;
+import model.Timeline;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.SymbolAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.StandardXYBarPainter;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
+import org.jfree.data.xy.XYIntervalSeries;
+import org.jfree.data.xy.XYIntervalSeriesCollection;
+
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+
+/**
+ * Gantt chart of a recorded Timeline: time across, one lane per process.
+ *
+ * Only what can be seen is drawn. Whenever the visible time range or the panel
+ * size changes, the timeline is re-aggregated so that segments of a lane less
+ * than a pixel apart become one bar, and with more processes than the panel
+ * has room for, neighbouring processes share a lane. The chart therefore stays
+ * responsive for timelines of hundreds of thousands of segments; zooming in
+ * brings back the individual slices.
+ */
+class GanttChart extends ChartPanel {
+
+    private static final long serialVersionUID = 1L;
+
+    // Processes are named on the lane axis up to this many, otherwise lanes are numbered
+    private static final int MAX_LABELLED_LANES = 40;
+    private static final int MIN_LANE_PIXELS = 3;
+
+    private static final Paint[] LANE_COLOURS = {
+            new Color(0x4E79A7), new Color(0xF28E2B), new Color(0xE15759), new Color(0x76B7B2),
+            new Color(0x59A14F), new Color(0xEDC948), new Color(0xB07AA1), new Color(0xFF9DA7)};
+
+    private final ScheduleResult result;
+    private final Timeline timeline;
+    private final XYIntervalSeriesCollection dataset = new XYIntervalSeriesCollection();
+    private int rowsPerLane = 1;
+
+    GanttChart(ScheduleResult result) {
+        super(null);
+        this.result = result;
+        this.timeline = result.getTimeline();
+
+        NumberAxis timeAxis = new NumberAxis("Time");
+        timeAxis.setAutoRange(false);
+        XYBarRenderer renderer = new XYBarRenderer() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Paint getItemPaint(int series, int item) {
+                return LANE_COLOURS[(int) dataset.getYValue(series, item) % LANE_COLOURS.length];
+            }
+        };
+        renderer.setUseYInterval(true);
+        renderer.setShadowVisible(false);
+        renderer.setBarPainter(new StandardXYBarPainter());
+        renderer.setDefaultToolTipGenerator((data, series, item) -> describe(series, item));
+
+        XYPlot plot = new XYPlot(dataset, timeAxis, laneAxis(), renderer);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        JFreeChart chart = new JFreeChart(result.getAlgorithmName() + " Gantt Chart",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, false);
+        setChart(chart);
+        setRangeZoomable(false);
+        setPreferredSize(new Dimension(900, 450));
+
+        restoreAutoDomainBounds();
+        timeAxis.addChangeListener(e -> refresh());
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                refresh();
+            }
+        });
+    }
+
+    // Zooming all the way out shows the whole timeline rather than the bars currently loaded
+    @Override
+    public void restoreAutoDomainBounds() {
+        int start = timeline.getStartTime();
+        int end = Math.max(timeline.getEndTime(), start + 1);
+        getChart().getXYPlot().getDomainAxis().setRange(start, end);
+    }
+
+    private ValueAxis laneAxis() {
+        int lanes = result.size();
+        ValueAxis axis;
+        if (lanes <= MAX_LABELLED_LANES) {
+            String[] names = new String[lanes];
+            for (int row = 0; row < lanes; row++) names[row] = "P" + result.getPid(row);
+            axis = new SymbolAxis(laneLabel(), names);
+        } else {
+            axis = new NumberAxis(laneLabel());
+            ((NumberAxis) axis).setStandardTickUnits(NumberAxis.createIntegerTickUnits());
+        }
+        axis.setInverted(true); // first process at the top
+        return axis;
+    }
+
+    private String laneLabel() {
+        return result.size() <= MAX_LABELLED_LANES ? "Process" : "Process row";
+    }
+
+    // Re-aggregates the visible part of the timeline for the current size and zoom
+    private void refresh() {
+        XYPlot plot = getChart().getXYPlot();
+        int width = Math.max(100, getWidth());
+        int height = Math.max(100, getHeight());
+
+        rowsPerLane = Math.max(1, (result.size() * MIN_LANE_PIXELS + height - 1) / height);
+        int lanes = (result.size() + rowsPerLane - 1) / rowsPerLane;
+        ValueAxis laneAxis = plot.getRangeAxis();
+        laneAxis.setRange(-0.5, Math.max(lanes, 1) - 0.5);
+        laneAxis.setLabel(rowsPerLane == 1 ? laneLabel() : "Process rows, " + rowsPerLane + " per lane");
+
+        double lower = plot.getDomainAxis().getLowerBound();
+        double upper = plot.getDomainAxis().getUpperBound();
+        Timeline visible = timeline.aggregate((int) Math.floor(lower), (int) Math.ceil(upper),
+                (upper - lower) / width, rowsPerLane);
+
+        XYIntervalSeries bars = new XYIntervalSeries("CPU");
+        for (int i = 0; i < visible.size(); i++) {
+            int lane = visible.getRow(i);
+            bars.add(visible.getStart(i), visible.getStart(i), visible.getEnd(i), lane, lane - 0.4, lane + 0.4);
+        }
+        dataset.removeAllSeries();
+        dataset.addSeries(bars);
+    }
+
+    private String describe(int series, int item) {
+        int lane = (int) dataset.getYValue(series, item);
+        String who;
+        if (rowsPerLane == 1) {
+            who = "P" + result.getPid(lane);
+        } else {
+            int last = Math.min(result.size(), (lane + 1) * rowsPerLane) - 1;
+            who = "P" + result.getPid(lane * rowsPerLane) + " .. P" + result.getPid(last);
+        }
+        return String.format("%s: %.0f - %.0f", who, dataset.getStartXValue(series, item),
+                dataset.getEndXValue(series, item));
+    }
+}
@@ -2,14 +2,25 @@
 
 package gui;
 
-import algorithm.traditional.*;
-import algorithm.metaheuristic.*;
+import algorithm.CancellationToken;
+import algorithm.ConvergenceCurve;
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.SchedulerRegistry;
+import algorithm.metrics.Metrics;
 import model.Process;
+import model.ProcessTable;
+import util.ComparisonEngine;
+import util.SchedulerRunner.ResultSummary;
 
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -17,13 +28,18 @@ import java.awt.*;
 import java.awt.event.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 public class SchedulerGUI extends JFrame {
 
     private static final long serialVersionUID = 1L;
 
+    // Per-algorithm limit for the Compare button; searches then stop with their best schedule so far
+    private static final long COMPARE_TIME_LIMIT_MILLIS = 30_000;
+
     private JTextField arrivalField, burstField, priorityField;
-    private JButton addButton, runButton, compareButton;
+    private JButton addButton, runButton, compareButton, cancelButton, ganttButton, convergenceButton, metricsButton;
+    private JProgressBar progressBar;
     private JTable processTable;
     private DefaultTableModel tableModel;
     private JComboBox<String> algorithmComboBox;
@@ -34,12 +50,22 @@ public class SchedulerGUI extends JFrame {
 
     private int pidCounter = 1;
 
+    // Stops the background run in progress, or null when nothing is running
+    private Runnable cancelAction;
+
+    // Points kept of a search's convergence curve for the Convergence button
+    private static final int CONVERGENCE_SAMPLES = 500;
+
+    // Result of the last single run, shown by the Gantt Chart and Convergence buttons
+    private ScheduleResult lastResult;
+
     public SchedulerGUI() {
         setTitle("CPU Scheduling Simulator");
         setSize(1000, 800);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLocationRelativeTo(null);
         setLayout(new BorderLayout());
+        Metrics.setEnabled(true);
 
         JPanel inputPanel = new JPanel(new GridLayout(3, 1));
 
@@ -66,14 +92,18 @@ public class SchedulerGUI extends JFrame {
         JPanel algoPanel = new JPanel();
         algoPanel.setBorder(BorderFactory.createTitledBorder("Select Algorithm"));
 
-        String[] algorithms = {"FCFS", "SJF", "RR", "Priority (Non-Preemptive)", "Priority (Preemptive)", "ACO", "SA", "GA"};
-        algorithmComboBox = new JComboBox<>(algorithms);
+        algorithmComboBox = new JComboBox<>();
+        for (Scheduler scheduler : SchedulerRegistry.all()) algorithmComboBox.addItem(scheduler.displayName());
         algoPanel.add(algorithmComboBox);
 
         algoPanel.add(new JLabel("Quantum (for RR):"));
         JTextField quantumField = new JTextField(5);
         algoPanel.add(quantumField);
 
+        algoPanel.add(new JLabel("CPUs:"));
+        JTextField cpusField = new JTextField("1", 3);
+        algoPanel.add(cpusField);
+
         inputPanel.add(algoPanel);
 
         JPanel paramPanel = new JPanel(new GridLayout(2, 1));
@@ -113,9 +143,24 @@ public class SchedulerGUI extends JFrame {
         JPanel bottomPanel = new JPanel(new BorderLayout());
         runButton = new JButton("Run Scheduling");
         compareButton = new JButton("Compare Algorithms");
+        cancelButton = new JButton("Cancel");
+        cancelButton.setEnabled(false);
+        ganttButton = new JButton("Gantt Chart");
+        ganttButton.setEnabled(false);
+        convergenceButton = new JButton("Convergence");
+        convergenceButton.setEnabled(false);
+        metricsButton = new JButton("Metrics");
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setString("");
         JPanel buttonPanel = new JPanel();
         buttonPanel.add(runButton);
         buttonPanel.add(compareButton);
+        buttonPanel.add(cancelButton);
+        buttonPanel.add(ganttButton);
+        buttonPanel.add(convergenceButton);
+        buttonPanel.add(metricsButton);
+        buttonPanel.add(progressBar);
         bottomPanel.add(buttonPanel, BorderLayout.NORTH);
 
         resultArea = new JTextArea(10, 50);
@@ -124,12 +169,19 @@ public class SchedulerGUI extends JFrame {
         add(bottomPanel, BorderLayout.SOUTH);
 
         addButton.addActionListener(this::handleAddProcess);
-        runButton.addActionListener(e -> handleRunScheduling(quantumField));
+        runButton.addActionListener(e -> handleRunScheduling(quantumField, cpusField));
         compareButton.addActionListener(e -> compareAllAlgorithms());
+        ganttButton.addActionListener(e -> showGanttChart());
+        convergenceButton.addActionListener(e -> showConvergence());
+        metricsButton.addActionListener(e -> showMetrics());
+        cancelButton.addActionListener(e -> {
+            if (cancelAction != null) cancelAction.run();
+            cancelButton.setEnabled(false);
+            progressBar.setString("Stopping...");
+        });
 
         algorithmComboBox.addActionListener(e -> {
-            String selected = (String) algorithmComboBox.getSelectedItem();
-            priorityField.setEnabled(selected.contains("Priority"));
+            priorityField.setEnabled(selectedScheduler().usesPriority());
         });
 
         setVisible(true);
@@ -139,10 +191,9 @@ public class SchedulerGUI extends JFrame {
         try {
             int arrival = Integer.parseInt(arrivalField.getText().trim());
             int burst = Integer.parseInt(burstField.getText().trim());
-            String algo = (String) algorithmComboBox.getSelectedItem();
             int priority = 0;
 
-            if (algo.contains("Priority")) {
+            if (selectedScheduler().usesPriority()) {
                 priority = Integer.parseInt(priorityField.getText().trim());
             }
 
@@ -157,7 +208,11 @@ public class SchedulerGUI extends JFrame {
         }
     }
 
-    private void handleRunScheduling(JTextField quantumField) {
+    private Scheduler selectedScheduler() {
+        return SchedulerRegistry.get((String) algorithmComboBox.getSelectedItem());
+    }
+
+    private void handleRunScheduling(JTextField quantumField, JTextField cpusField) {
         List<Process> processes = extractProcesses();
 
         if (processes.isEmpty()) {
@@ -165,55 +220,155 @@ public class SchedulerGUI extends JFrame {
             return;
         }
 
-        String algo = (String) algorithmComboBox.getSelectedItem();
-
         try {
-            switch (algo) {
-                case "FCFS": FCFS.schedule(processes); break;
-                case "SJF": SJF.schedule(processes); break;
-                case "RR":
-                    int quantum = Integer.parseInt(quantumField.getText().trim());
-                    RR.schedule(processes, quantum); break;
-                case "Priority (Non-Preemptive)": PriorityNonPreemptive.schedule(processes, true); break;
-                case "Priority (Preemptive)": PriorityPreemptive.schedule(processes, true); break;
-                case "ACO":
-                    ACO.schedule(processes, Integer.parseInt(numAntsField.getText().trim()),
-                            Integer.parseInt(maxIterField.getText().trim()),
-                            Double.parseDouble(alphaField.getText().trim()),
-                            Double.parseDouble(betaField.getText().trim()),
-                            Double.parseDouble(evaporationField.getText().trim()));
-                    break;
-                case "SA": SA.schedule(processes); break;
-                case "GA": GA.schedule(processes); break;
+            SchedulerParameters.Builder parameters = SchedulerParameters.builder()
+                    .lowerNumberHigherPriority(true)
+                    .recordTimeline(true)
+                    .convergenceSamples(CONVERGENCE_SAMPLES)
+                    .cpuCount(Integer.parseInt(cpusField.getText().trim()))
+                    .numAnts(Integer.parseInt(numAntsField.getText().trim()))
+                    .maxIterations(Integer.parseInt(maxIterField.getText().trim()))
+                    .alpha(Double.parseDouble(alphaField.getText().trim()))
+                    .beta(Double.parseDouble(betaField.getText().trim()))
+                    .evaporationRate(Double.parseDouble(evaporationField.getText().trim()));
+            if (!quantumField.getText().trim().isEmpty()) {
+                parameters.timeQuantum(Integer.parseInt(quantumField.getText().trim()));
             }
 
-            displayResults(processes);
+            runInBackground(selectedScheduler(), ProcessTable.fromList(processes), parameters.build());
         } catch (Exception ex) {
             JOptionPane.showMessageDialog(this, "Error: " + ex.getMessage());
         }
     }
 
-    private void displayResults(List<Process> processes) {
+    /*
+     * Runs one scheduler on a worker thread so the window stays responsive. Searches report
+     * their progress to the progress bar; Cancel makes them stop and show their best schedule
+     * so far. Everything that touches Swing happens in process() and done(), on the EDT.
+     */
+    private void runInBackground(Scheduler scheduler, ProcessTable workload, SchedulerParameters parameters) {
+        CancellationToken token = new CancellationToken();
+        SwingWorker<ScheduleResult, Double> worker = new SwingWorker<ScheduleResult, Double>() {
+            @Override
+            protected ScheduleResult doInBackground() {
+                return scheduler.run(workload, parameters, token, (fraction, bestFitness) -> publish(fraction));
+            }
+
+            @Override
+            protected void process(List<Double> fractions) {
+                progressBar.setIndeterminate(false);
+                progressBar.setValue((int) Math.round(100 * fractions.get(fractions.size() - 1)));
+                progressBar.setString(null);
+            }
+
+            @Override
+            protected void done() {
+                finishRun();
+                try {
+                    displayResults(get());
+                } catch (ExecutionException ex) {
+                    JOptionPane.showMessageDialog(SchedulerGUI.this, "Error: " + ex.getCause().getMessage());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        startRun(scheduler.displayName(), token::cancel);
+        worker.execute();
+    }
+
+    private void startRun(String label, Runnable cancel) {
+        cancelAction = cancel;
+        runButton.setEnabled(false);
+        compareButton.setEnabled(false);
+        cancelButton.setEnabled(true);
+        progressBar.setIndeterminate(true); // until the first progress report, if any
+        progressBar.setString("Running " + label + "...");
+    }
+
+    private void finishRun() {
+        cancelAction = null;
+        runButton.setEnabled(true);
+        compareButton.setEnabled(true);
+        cancelButton.setEnabled(false);
+        progressBar.setIndeterminate(false);
+        progressBar.setValue(0);
+        progressBar.setString("");
+    }
+
+    private void displayResults(ScheduleResult result) {
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("%-5s %-10s %-10s %-10s %-10s %-10s%n",
                 "PID", "Arrival", "Burst", "Completion", "Turnaround", "Waiting"));
 
-        int totalWT = 0, totalTAT = 0;
-
-        for (Process p : processes) {
+        for (int k = 0; k < result.size(); k++) {
+            int row = result.getOrder(k);
             sb.append(String.format("%-5d %-10d %-10d %-10d %-10d %-10d%n",
-                    p.getPid(), p.getArrivalTime(), p.getBurstTime(),
-                    p.getCompletionTime(), p.getTurnaroundTime(), p.getWaitingTime()));
-            totalWT += p.getWaitingTime();
-            totalTAT += p.getTurnaroundTime();
+                    result.getPid(row), result.getArrivalTime(row), result.getBurstTime(row),
+                    result.getCompletionTime(row), result.getTurnaroundTime(row), result.getWaitingTime(row)));
         }
 
-        double avgWT = (double) totalWT / processes.size();
-        double avgTAT = (double) totalTAT / processes.size();
-
-        sb.append(String.format("%nAverage Waiting Time   : %.2f%n", avgWT));
-        sb.append(String.format("Average Turnaround Time: %.2f%n", avgTAT));
+        sb.append(String.format("%nAverage Waiting Time   : %.2f%n", result.getAverageWaitingTime()));
+        sb.append(String.format("Average Turnaround Time: %.2f%n", result.getAverageTurnaroundTime()));
+        sb.append(String.format("CPU Utilization        : %.2f%%%n", 100 * result.getCpuUtilization()));
+        if (result.getCpuCount() > 1) {
+            sb.append(String.format("CPUs                   : %d%n", result.getCpuCount()));
+        }
+        if (result.getSearchStats() != null) {
+            sb.append("Search                 : ").append(result.getSearchStats()).append(String.format("%n"));
+        }
         resultArea.setText(sb.toString());
+
+        lastResult = result;
+        ganttButton.setEnabled(result.getTimeline() != null);
+        convergenceButton.setEnabled(result.getSearchStats() != null && result.getSearchStats().getConvergence() != null);
+    }
+
+    private void showGanttChart() {
+        JDialog dialog = new JDialog(this, lastResult.getAlgorithmName() + " Gantt Chart", false);
+        dialog.add(new GanttChart(lastResult));
+        dialog.pack();
+        dialog.setLocationRelativeTo(this);
+        dialog.setVisible(true);
+    }
+
+    // Best and mean total turnaround per iteration of the last search
+    private void showConvergence() {
+        ConvergenceCurve curve = lastResult.getSearchStats().getConvergence();
+        XYSeries best = new XYSeries("Best so far");
+        XYSeries mean = new XYSeries("Mean");
+        for (int i = 0; i < curve.size(); i++) {
+            best.add(curve.getStep(i), curve.getBestFitness(i));
+            mean.add(curve.getStep(i), curve.getMeanFitness(i));
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(best);
+        dataset.addSeries(mean);
+
+        JFreeChart chart = ChartFactory.createXYLineChart(lastResult.getAlgorithmName() + " Convergence",
+                "Iteration", "Total Turnaround Time", dataset);
+        ((NumberAxis) chart.getXYPlot().getRangeAxis()).setAutoRangeIncludesZero(false);
+        ChartPanel chartPanel = new ChartPanel(chart);
+        chartPanel.setPreferredSize(new Dimension(800, 400));
+
+        JLabel summary = new JLabel(String.format("Within 1%% of the final best after iteration %d of %d",
+                curve.stepsToReach(0.01), curve.getStep(curve.size() - 1)), SwingConstants.CENTER);
+
+        JDialog dialog = new JDialog(this, lastResult.getAlgorithmName() + " Convergence", false);
+        dialog.add(chartPanel, BorderLayout.CENTER);
+        dialog.add(summary, BorderLayout.SOUTH);
+        dialog.pack();
+        dialog.setLocationRelativeTo(this);
+        dialog.setVisible(true);
+    }
+
+    // Counters of every run in this session; the GUI runs are small enough to always collect them
+    private void showMetrics() {
+        String report = Metrics.report();
+        JTextArea text = new JTextArea(report.isEmpty() ? "No runs yet." : report, 20, 50);
+        text.setEditable(false);
+        text.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        JOptionPane.showMessageDialog(this, new JScrollPane(text), "Scheduler Metrics", JOptionPane.PLAIN_MESSAGE);
     }
 
     private List<Process> extractProcesses() {
@@ -228,93 +383,126 @@ public class SchedulerGUI extends JFrame {
         return list;
     }
 
+    /*
+     * Every algorithm runs concurrently on the same workload, which none of them modifies, on a
+     * worker thread. The summary dialog opens straight away and fills in as each algorithm
+     * finishes; Cancel stops the remaining searches, which still report their best schedule.
+     */
     private void compareAllAlgorithms() {
-        List<Process> base = extractProcesses();
-        List<String> algos = new ArrayList<>();
-        List<Double> wtList = new ArrayList<>(), tatList = new ArrayList<>();
-        String[] names = {"FCFS", "SJF", "RR", "Priority (Non-Preemptive)", "Priority (Preemptive)", "ACO", "SA", "GA"};
-
-        for (String algo : names) {
-            List<Process> copy = new ArrayList<>();
-            for (Process p : base) copy.add(new Process(p.getPid(), p.getArrivalTime(), p.getBurstTime(), p.getPriority()));
-
-            try {
-                switch (algo) {
-                    case "FCFS": FCFS.schedule(copy); break;
-                    case "SJF": SJF.schedule(copy); break;
-                    case "RR": RR.schedule(copy, 2); break;
-                    case "Priority (Non-Preemptive)": PriorityNonPreemptive.schedule(copy, true); break;
-                    case "Priority (Preemptive)": PriorityPreemptive.schedule(copy, true); break;
-                    case "ACO": ACO.schedule(copy, 10, 100, 1.0, 2.0, 0.5); break;
-                    case "SA": SA.schedule(copy); break;
-                    case "GA": GA.schedule(copy); break;
-                }
-                double avgWT = copy.stream().mapToInt(Process::getWaitingTime).average().orElse(0);
-                double avgTAT = copy.stream().mapToInt(Process::getTurnaroundTime).average().orElse(0);
-                algos.add(algo);
-                wtList.add(avgWT);
-                tatList.add(avgTAT);
-            } catch (Exception ignored) {}
+        List<Process> processes = extractProcesses();
+        if (processes.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Add some processes first!");
+            return;
         }
 
-        showComparisonChart(algos, wtList, tatList);
-    }
-
-    private void showComparisonChart(List<String> algorithms, List<Double> avgWTs, List<Double> avgTATs) {
-        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-
-        for (int i = 0; i < algorithms.size(); i++) {
-            dataset.addValue(avgWTs.get(i), "Avg Waiting Time", algorithms.get(i));
-            dataset.addValue(avgTATs.get(i), "Avg Turnaround Time", algorithms.get(i));
+        ComparisonEngine engine = new ComparisonEngine();
+        int count = SchedulerRegistry.all().size();
+        for (Scheduler scheduler : SchedulerRegistry.all()) {
+            engine.add(scheduler, SchedulerParameters.DEFAULTS, COMPARE_TIME_LIMIT_MILLIS);
         }
+        ProcessTable workload = ProcessTable.fromList(processes);
+        ComparisonView view = new ComparisonView();
+
+        SwingWorker<Void, ResultSummary> worker = new SwingWorker<Void, ResultSummary>() {
+            @Override
+            protected Void doInBackground() throws InterruptedException {
+                engine.run(workload, this::publish);
+                return null;
+            }
 
-        JFreeChart barChart = ChartFactory.createBarChart(
-                "Algorithm Comparison", "Algorithm", "Time (ms)", dataset);
+            @Override
+            protected void process(List<ResultSummary> finished) {
+                for (ResultSummary res : finished) {
+                    view.add(res);
+                    resultArea.append(res.algorithmName + ": "
+                            + (res.failed() ? "failed: " + res.error
+                               : String.format("avg waiting %.2f, avg turnaround %.2f (%s)",
+                                       res.avgWaitingTime, res.avgTurnaroundTime, res.status()))
+                            + String.format("%n"));
+                }
+                progressBar.setIndeterminate(false);
+                progressBar.setValue(100 * view.size() / count);
+                progressBar.setString(view.size() + " of " + count + " done");
+            }
 
-        ChartPanel chartPanel = new ChartPanel(barChart);
-        chartPanel.setPreferredSize(new Dimension(800, 400));
+            @Override
+            protected void done() {
+                finishRun();
+                view.finish();
+            }
+        };
 
-        // Create a table for summary
-        String[] columnNames = {"Algorithm", "Avg Waiting Time", "Avg Turnaround Time"};
-        Object[][] tableData = new Object[algorithms.size()][3];
+        resultArea.setText("");
+        startRun("comparison", engine::cancel);
+        view.show();
+        worker.execute();
+    }
+
+    // Non-modal summary of a comparison: bar chart, table and best algorithm, updated as results arrive
+    private class ComparisonView {
+        private final DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        private final DefaultTableModel summaryModel = new DefaultTableModel(
+                new Object[]{"Algorithm", "Avg Waiting Time", "Avg Turnaround Time", "Run Time (ms)", "Status"}, 0);
+        private final JLabel bestAlgoLabel = new JLabel("Running...");
 
         // For deciding best algorithm by combined metric
-        double minScore = Double.MAX_VALUE;
-        String bestAlgo = "";
+        private double minScore = Double.MAX_VALUE;
+        private String bestAlgo = "";
+
+        void show() {
+            JFreeChart barChart = ChartFactory.createBarChart(
+                    "Algorithm Comparison", "Algorithm", "Time (ms)", dataset);
+
+            ChartPanel chartPanel = new ChartPanel(barChart);
+            chartPanel.setPreferredSize(new Dimension(800, 400));
+
+            JTable summaryTable = new JTable(summaryModel);
+            JScrollPane tableScroll = new JScrollPane(summaryTable);
+            tableScroll.setPreferredSize(new Dimension(800, 150));
+
+            // Panel to combine chart and table
+            JPanel combinedPanel = new JPanel(new BorderLayout());
+            combinedPanel.add(chartPanel, BorderLayout.NORTH);
+            combinedPanel.add(tableScroll, BorderLayout.CENTER);
+
+            bestAlgoLabel.setHorizontalAlignment(SwingConstants.CENTER);
+            bestAlgoLabel.setFont(new Font("Serif", Font.BOLD, 16));
+            combinedPanel.add(bestAlgoLabel, BorderLayout.SOUTH);
+
+            JDialog dialog = new JDialog(SchedulerGUI.this, "Performance Comparison Summary", false);
+            dialog.add(combinedPanel);
+            dialog.pack();
+            dialog.setLocationRelativeTo(SchedulerGUI.this);
+            dialog.setVisible(true);
+        }
 
-        for (int i = 0; i < algorithms.size(); i++) {
-            tableData[i][0] = algorithms.get(i);
-            tableData[i][1] = String.format("%.2f", avgWTs.get(i));
-            tableData[i][2] = String.format("%.2f", avgTATs.get(i));
+        void add(ResultSummary res) {
+            if (res.failed()) {
+                summaryModel.addRow(new Object[]{res.algorithmName, "-", "-", res.millis, "Failed: " + res.error});
+                return;
+            }
+            dataset.addValue(res.avgWaitingTime, "Avg Waiting Time", res.algorithmName);
+            dataset.addValue(res.avgTurnaroundTime, "Avg Turnaround Time", res.algorithmName);
+            summaryModel.addRow(new Object[]{res.algorithmName, String.format("%.2f", res.avgWaitingTime),
+                    String.format("%.2f", res.avgTurnaroundTime), res.millis, res.status()});
 
-            double score = 0.5 * avgWTs.get(i) + 0.5 * avgTATs.get(i);  // weights can be changed
+            double score = 0.5 * res.avgWaitingTime + 0.5 * res.avgTurnaroundTime;  // weights can be changed
             if (score < minScore) {
                 minScore = score;
-                bestAlgo = algorithms.get(i);
+                bestAlgo = res.algorithmName;
             }
+            bestAlgoLabel.setText("Best so far (based on weighted WT and TAT): " + bestAlgo);
         }
 
-        JTable summaryTable = new JTable(tableData, columnNames);
-        JScrollPane tableScroll = new JScrollPane(summaryTable);
-        tableScroll.setPreferredSize(new Dimension(800, 150));
-
-        // Panel to combine chart and table
-        JPanel combinedPanel = new JPanel(new BorderLayout());
-        combinedPanel.add(chartPanel, BorderLayout.NORTH);
-        combinedPanel.add(tableScroll, BorderLayout.CENTER);
-
-        // Add label for best algorithm
-        JLabel bestAlgoLabel = new JLabel("Best Algorithm (based on weighted WT and TAT): " + bestAlgo);
-        bestAlgoLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        bestAlgoLabel.setFont(new Font("Serif", Font.BOLD, 16));
-        combinedPanel.add(bestAlgoLabel, BorderLayout.SOUTH);
+        int size() {
+            return summaryModel.getRowCount();
+        }
 
-        JOptionPane.showMessageDialog(this, combinedPanel, "Performance Comparison Summary", JOptionPane.PLAIN_MESSAGE);
+        void finish() {
+            bestAlgoLabel.setText("Best Algorithm (based on weighted WT and TAT): " + bestAlgo);
+        }
     }
 
-
-
-
     public static void main(String[] args) {
         SwingUtilities.invokeLater(SchedulerGUI::new);
     }
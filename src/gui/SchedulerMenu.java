@@ -5,6 +5,8 @@ import algorithm.traditional.SJF;
 import algorithm.traditional.RR;
 import algorithm.traditional.PriorityPreemptive;
 import algorithm.traditional.PriorityNonPreemptive;
+import algorithm.traditional.MLFQ;
+import algorithm.traditional.SRTF;
 
 import model.Process;
 
@@ -24,12 +26,14 @@ public class SchedulerMenu {
             System.out.println("3. Round Robin (RR)");
             System.out.println("4. Priority (Non-Preemptive)");
             System.out.println("5. Priority (Preemptive)");
-            System.out.println("6. Exit");
+            System.out.println("6. Multi-Level Feedback Queue (MLFQ)");
+            System.out.println("7. Shortest Remaining Time First (SRTF)");
+            System.out.println("8. Exit");
 
             System.out.print("Enter your choice: ");
             int choice = sc.nextInt();
 
-            if (choice == 6) {
+            if (choice == 8) {
                 System.out.println("Exiting program...");
                 break;
             }
@@ -95,6 +99,24 @@ public class SchedulerMenu {
                     PriorityPreemptive.printResults(processList);
                     break;
 
+                case 6:
+                    System.out.print("Enter number of levels: ");
+                    int[] quanta = new int[sc.nextInt()];
+                    for (int level = 0; level < quanta.length; level++) {
+                        System.out.print("Time Quantum of level " + level + ": ");
+                        quanta[level] = sc.nextInt();
+                    }
+                    System.out.print("Priority boost interval (0 = never): ");
+                    int boost = sc.nextInt();
+                    MLFQ.schedule(processList, quanta, boost);
+                    MLFQ.printResults(processList);
+                    break;
+
+                case 7:
+                    SRTF.schedule(processList);
+                    SRTF.printResults(processList);
+                    break;
+
                 default:
                     System.out.println("Invalid choice! Please try again.");
             }
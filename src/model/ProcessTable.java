@@ -0,0 +1,231 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Column-oriented view of a workload: one primitive array per attribute instead
+ * of one {@link Process} object per row, so large workloads can be scheduled
+ * without creating or walking an object graph.
+ *
+ * Rows keep the order they were added in. The result columns (completion,
+ * turnaround, waiting) are indexed by row, and {@link #getOrder(int)} holds the
+ * row executed at each position (dispatch order for non-preemptive schedulers,
+ * completion order for preemptive ones). Results scheduled on several CPUs
+ * also note the CPU each row finished on.
+ */
+public class ProcessTable {
+
+    private final int size;
+
+    private final int[] pid;
+    private final int[] arrivalTime;
+    private final int[] burstTime;
+    private final int[] priority;
+
+    private final int[] completionTime;
+    private final int[] turnaroundTime;
+    private final int[] waitingTime;
+    private final int[] order;
+
+    private int cpuCount = 1;
+    private int[] cpu;         // null while cpuCount is 1
+    private Timeline timeline; // null unless recording was asked for
+
+    public ProcessTable(int size) {
+        this(size, new int[size], new int[size], new int[size], new int[size]);
+    }
+
+    private ProcessTable(int size, int[] pid, int[] arrivalTime, int[] burstTime, int[] priority) {
+        this.size = size;
+        this.pid = pid;
+        this.arrivalTime = arrivalTime;
+        this.burstTime = burstTime;
+        this.priority = priority;
+        this.completionTime = new int[size];
+        this.turnaroundTime = new int[size];
+        this.waitingTime = new int[size];
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+    }
+
+    /*
+     * A table over the same input columns with its own, empty result columns. Concurrent runs
+     * can each schedule their own view of one workload without copying the inputs; the input
+     * columns must not be changed with set() while views are in use.
+     */
+    public ProcessTable withOwnResults() {
+        return new ProcessTable(size, pid, arrivalTime, burstTime, priority);
+    }
+
+    // As above, also recording a Timeline of the schedule when asked to
+    public ProcessTable withOwnResults(boolean recordTimeline) {
+        ProcessTable view = withOwnResults();
+        if (recordTimeline) view.timeline = new Timeline(size);
+        return view;
+    }
+
+    // ===== Adapters to and from the List<Process> API =====
+
+    public static ProcessTable fromList(List<Process> processes) {
+        ProcessTable table = new ProcessTable(processes.size());
+        for (int i = 0; i < table.size; i++) {
+            Process p = processes.get(i);
+            table.set(i, p.getPid(), p.getArrivalTime(), p.getBurstTime(), p.getPriority());
+        }
+        return table;
+    }
+
+    // New Process objects in row order, carrying the result columns
+    public List<Process> toList() {
+        List<Process> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) list.add(toProcess(i));
+        return list;
+    }
+
+    // New Process objects in execution order, carrying the result columns
+    public List<Process> toOrderedList() {
+        List<Process> list = new ArrayList<>(size);
+        for (int k = 0; k < size; k++) list.add(toProcess(order[k]));
+        return list;
+    }
+
+    // Writes the result columns onto the Process objects the table was built from
+    public void copyResultsTo(List<Process> processes) {
+        for (int i = 0; i < size; i++) {
+            Process p = processes.get(i);
+            p.setCompletionTime(completionTime[i]);
+            p.setTurnaroundTime(turnaroundTime[i]);
+            p.setWaitingTime(waitingTime[i]);
+        }
+    }
+
+    // Rearranges the Process objects the table was built from into execution order
+    public void reorder(List<Process> processes) {
+        List<Process> rows = new ArrayList<>(processes);
+        for (int k = 0; k < size; k++) processes.set(k, rows.get(order[k]));
+    }
+
+    private Process toProcess(int row) {
+        Process p = new Process(pid[row], arrivalTime[row], burstTime[row], priority[row]);
+        p.setCompletionTime(completionTime[row]);
+        p.setTurnaroundTime(turnaroundTime[row]);
+        p.setWaitingTime(waitingTime[row]);
+        return p;
+    }
+
+    // ===== Input columns =====
+
+    public void set(int row, int pid, int arrivalTime, int burstTime, int priority) {
+        this.pid[row] = pid;
+        this.arrivalTime[row] = arrivalTime;
+        this.burstTime[row] = burstTime;
+        this.priority[row] = priority;
+    }
+
+    public int size() { return size; }
+
+    public int getPid(int row) { return pid[row]; }
+    public int getArrivalTime(int row) { return arrivalTime[row]; }
+    public int getBurstTime(int row) { return burstTime[row]; }
+    public int getPriority(int row) { return priority[row]; }
+
+    // ===== Result columns =====
+
+    // Records the completion of a row and derives its turnaround and waiting times
+    public void complete(int row, int completionTime) {
+        this.completionTime[row] = completionTime;
+        this.turnaroundTime[row] = completionTime - arrivalTime[row];
+        this.waitingTime[row] = turnaroundTime[row] - burstTime[row];
+    }
+
+    public int getCompletionTime(int row) { return completionTime[row]; }
+    public int getTurnaroundTime(int row) { return turnaroundTime[row]; }
+    public int getWaitingTime(int row) { return waitingTime[row]; }
+
+    public int getOrder(int position) { return order[position]; }
+    public void setOrder(int position, int row) { order[position] = row; }
+
+    // Number of identical CPUs the results are scheduled on; set before the first recordSlice
+    public void setCpuCount(int cpus) {
+        if (cpus < 1) throw new IllegalArgumentException("cpu count must be at least 1");
+        cpuCount = cpus;
+        cpu = cpus > 1 ? new int[size] : null;
+    }
+
+    public int getCpuCount() { return cpuCount; }
+
+    // CPU a row ran on last, 0 on a single CPU
+    public int getCpu(int row) { return cpu == null ? 0 : cpu[row]; }
+
+    // Notes that a row held the (single) CPU during [start, end)
+    public void recordSlice(int row, int start, int end) {
+        if (timeline != null) timeline.add(row, 0, start, end);
+    }
+
+    // Notes that a row held the given CPU during [start, end)
+    public void recordSlice(int row, int cpu, int start, int end) {
+        if (this.cpu != null) this.cpu[row] = cpu;
+        if (timeline != null) timeline.add(row, cpu, start, end);
+    }
+
+    // The recorded timeline, or null if recording was not enabled
+    public Timeline getTimeline() { return timeline; }
+
+    // ===== Permutation helpers shared by the schedulers =====
+
+    // Rows sorted by arrival time, ties kept in row order
+    public int[] rowsByArrival() {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) keys[i] = ((long) arrivalTime[i] << 32) | i;
+        Arrays.sort(keys);
+        int[] rows = new int[size];
+        for (int k = 0; k < size; k++) rows[k] = (int) keys[k];
+        return rows;
+    }
+
+    // Rows in their original order: 0, 1, ..., size - 1
+    public int[] identityPermutation() {
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) rows[i] = i;
+        return rows;
+    }
+
+    // Runs the rows back to back in the given order and returns the summed turnaround time
+    public long totalTurnaround(int[] permutation) {
+        int currentTime = 0;
+        long totalTurnaround = 0;
+        for (int row : permutation) {
+            if (currentTime < arrivalTime[row]) currentTime = arrivalTime[row];
+            currentTime += burstTime[row];
+            totalTurnaround += currentTime - arrivalTime[row];
+        }
+        return totalTurnaround;
+    }
+
+    // Runs the rows back to back in the given order, filling the result columns and the order
+    public void applyOrder(int[] permutation) {
+        int currentTime = 0;
+        for (int k = 0; k < size; k++) {
+            int row = permutation[k];
+            if (currentTime < arrivalTime[row]) currentTime = arrivalTime[row];
+            recordSlice(row, currentTime, currentTime + burstTime[row]);
+            currentTime += burstTime[row];
+            complete(row, currentTime);
+            order[k] = row;
+        }
+    }
+
+    public double averageWaitingTime() {
+        long total = 0;
+        for (int i = 0; i < size; i++) total += waitingTime[i];
+        return (double) total / size;
+    }
+
+    public double averageTurnaroundTime() {
+        long total = 0;
+        for (int i = 0; i < size; i++) total += turnaroundTime[i];
+        return (double) total / size;
+    }
+}
@@ -0,0 +1,138 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Compact record of when each row of a ProcessTable held a CPU: run-length
+ * segments (row, cpu, start, end) in primitive arrays, in the order they were
+ * decided, which with a single CPU is time order. A slice that continues the
+ * previous segment of the same row on the same CPU is merged into it, so a
+ * process that keeps its CPU across several decisions takes one segment
+ * however many quanta or events it spans.
+ *
+ * Only the owning ProcessTable appends, so a timeline handed out with a
+ * ScheduleResult is read-only.
+ */
+public class Timeline {
+
+    private int[] rows;
+    private int[] cpus;
+    private int[] starts;
+    private int[] ends;
+    private int size;
+
+    private int[] lastOnCpu = {-1}; // latest segment of each CPU, for merging
+    private int startTime = Integer.MAX_VALUE;
+    private int endTime = Integer.MIN_VALUE;
+
+    public Timeline(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        rows = new int[capacity];
+        cpus = new int[capacity];
+        starts = new int[capacity];
+        ends = new int[capacity];
+    }
+
+    // Appends the interval [start, end) for a row on a CPU; empty slices are ignored
+    void add(int row, int cpu, int start, int end) {
+        if (end <= start) return;
+        if (cpu >= lastOnCpu.length) {
+            int old = lastOnCpu.length;
+            lastOnCpu = Arrays.copyOf(lastOnCpu, Math.max(cpu + 1, old * 2));
+            Arrays.fill(lastOnCpu, old, lastOnCpu.length, -1);
+        }
+        int last = lastOnCpu[cpu];
+        if (last >= 0 && rows[last] == row && ends[last] == start) {
+            ends[last] = end;
+            endTime = Math.max(endTime, end);
+            return;
+        }
+        lastOnCpu[cpu] = size;
+        append(row, cpu, start, end);
+    }
+
+    public int size() { return size; }
+
+    public int getRow(int segment) { return rows[segment]; }
+    public int getCpu(int segment) { return cpus[segment]; }
+    public int getStart(int segment) { return starts[segment]; }
+    public int getEnd(int segment) { return ends[segment]; }
+
+    // Earliest start and latest end over all segments
+    public int getStartTime() { return size == 0 ? 0 : startTime; }
+    public int getEndTime() { return size == 0 ? 0 : endTime; }
+
+    // Segment indices by start time, ties in recording order; the identity on one CPU
+    public int[] segmentsByStart() {
+        int[] order = new int[size];
+        boolean sorted = true;
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            if (i > 0 && starts[i] < starts[i - 1]) sorted = false;
+        }
+        if (sorted) return order;
+
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) keys[i] = ((long) starts[i] << 32) | i;
+        Arrays.sort(keys);
+        for (int k = 0; k < size; k++) order[k] = (int) keys[k];
+        return order;
+    }
+
+    /*
+     * Reduced copy for drawing the window [from, to]: rows are grouped rowsPerLane to a lane
+     * (the copy's "row" is the lane index), segments are clipped to the window, and segments
+     * of a lane less than minGap apart are merged. With minGap set to the time one pixel
+     * covers, the result has at most a few segments per lane and pixel column, however long
+     * the timeline is. The copy is not in time order and drops the CPU of each segment.
+     */
+    public Timeline aggregate(int from, int to, double minGap, int rowsPerLane) {
+        int lanes = 0;
+        for (int i = 0; i < size; i++) lanes = Math.max(lanes, rows[i] / rowsPerLane + 1);
+
+        int[] openStart = new int[lanes];
+        int[] openEnd = new int[lanes];
+        boolean[] open = new boolean[lanes];
+        Timeline out = new Timeline(Math.min(size, 1024));
+
+        int[] byStart = segmentsByStart();
+        for (int k = 0; k < size; k++) {
+            int i = byStart[k];
+            if (ends[i] <= from || starts[i] >= to) continue;
+            int lane = rows[i] / rowsPerLane;
+            int start = Math.max(starts[i], from);
+            int end = Math.min(ends[i], to);
+
+            if (open[lane] && start - openEnd[lane] < minGap) {
+                openEnd[lane] = Math.max(openEnd[lane], end);
+            } else {
+                if (open[lane]) out.append(lane, 0, openStart[lane], openEnd[lane]);
+                open[lane] = true;
+                openStart[lane] = start;
+                openEnd[lane] = end;
+            }
+        }
+        for (int lane = 0; lane < lanes; lane++) {
+            if (open[lane]) out.append(lane, 0, openStart[lane], openEnd[lane]);
+        }
+        return out;
+    }
+
+    // Like add, but without merging into an earlier segment
+    private void append(int row, int cpu, int start, int end) {
+        if (size == rows.length) {
+            int capacity = size * 2;
+            rows = Arrays.copyOf(rows, capacity);
+            cpus = Arrays.copyOf(cpus, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+        rows[size] = row;
+        cpus[size] = cpu;
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+        startTime = Math.min(startTime, start);
+        endTime = Math.max(endTime, end);
+    }
+}
@@ -7,4 +7,18 @@
 module MetaheuristicScheduler {
 	 requires java.desktop;
 	    requires org.jfree.jfreechart;
+	    requires jdk.jfr;
+
+	uses algorithm.Scheduler;
+	provides algorithm.Scheduler with
+		algorithm.traditional.FCFS,
+		algorithm.traditional.SJF,
+		algorithm.traditional.SRTF,
+		algorithm.traditional.RR,
+		algorithm.traditional.PriorityNonPreemptive,
+		algorithm.traditional.PriorityPreemptive,
+		algorithm.traditional.MLFQ,
+		algorithm.metaheuristic.ACO,
+		algorithm.metaheuristic.GA,
+		algorithm.metaheuristic.SA;
 }
\ No newline at end of file
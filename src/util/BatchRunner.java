@@ -0,0 +1,261 @@
+package util;
+
+import model.ProcessTable;
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.SchedulerRegistry;
+import algorithm.SearchStats;
+import algorithm.metaheuristic.WarmStartStore;
+import algorithm.metrics.Metrics;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Non-interactive counterpart of SchedulerRunner: schedules every workload file
+ * given on the command line (or found in a given directory) with the selected
+ * algorithms in a single JVM, and writes the results to files.
+ *
+ * For each workload, results go to OUTPUT/<workload>/<algorithm>.csv (or .bin
+ * with --binary-results, see MappedTrace), and one
+ * line per (workload, algorithm) is appended to OUTPUT/summary.csv.
+ */
+public class BatchRunner {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java util.BatchRunner [options] <workload file or directory>...",
+            "",
+            "Workloads are .csv (pid,arrival,burst[,priority]) or .bin files; directories are",
+            "scanned (non-recursively) for both.",
+            "",
+            "Options:",
+            "  --algorithms LIST   comma separated scheduler names (default: all registered)",
+            "                      built in: FCFS,SJF,SRTF,RR,PNP,PP,MLFQ,ACO,GA,SA (PNP/PP = priority non-preemptive/preemptive)",
+            "  --output DIR        directory for results (default: results)",
+            "  --summary-only      write summary.csv but no per-process result files",
+            "  --binary-results    write per-process results as fixed-width .bin files instead of CSV",
+            "  --cpus N            number of identical CPUs to schedule on (default: 1)",
+            "  --quantum N         Round Robin time quantum (default: 2)",
+            "  --mlfq-quanta LIST  MLFQ quantum of each level, top level first (default: 2,4,8)",
+            "  --mlfq-boost N      move every MLFQ process back to the top level each N time units, 0 = never (default: 100)",
+            "  --higher-first      higher priority number = higher priority (default: lower first)",
+            "  --ants N            ACO number of ants (default: 10)",
+            "  --iterations N      ACO number of iterations (default: 100)",
+            "  --alpha X           ACO pheromone influence (default: 1.0)",
+            "  --beta X            ACO heuristic influence (default: 2.0)",
+            "  --evaporation X     ACO evaporation rate (default: 0.5)",
+            "  --ga-elites N       GA individuals carried over unchanged each generation (default: 2)",
+            "  --ga-cache N        GA fitness cache entries per island, 0 = off (default: 0)",
+            "  --time-limit MS     stop ACO/GA/SA after MS milliseconds with their best schedule so far",
+            "  --target-fitness N  stop ACO/GA/SA once a schedule's total turnaround is at most N",
+            "  --gap-tolerance X   stop ACO/GA/SA within fraction X of the workload's lower bound, e.g. 0.01",
+            "                      (default: 0, stop only on a provably optimal schedule)",
+            "  --no-lower-bound    never stop ACO/GA/SA at the lower bound; they run their full budget",
+            "  --no-seeding        start ACO/GA/SA from random schedules only, not also from the SJF and FCFS orders",
+            "  --warm-start        start ACO/GA/SA on each workload from their result on the previous one of the same size",
+            "  --sa-chains N       SA parallel tempering chains, 0 = one per core (default: 1, plain annealing)",
+            "  --convergence N     also write <algorithm>-convergence.csv for ACO/GA/SA with up to N points",
+            "  --metrics           print per-algorithm counters (dispatches, evaluations, ...) at the end");
+
+    // Command line settings
+    static class Options {
+        List<Scheduler> algorithms = SchedulerRegistry.all();
+        List<Path> inputs = new ArrayList<>();
+        Path output = Paths.get("results");
+        boolean summaryOnly = false;
+        boolean binaryResults = false;
+        boolean metrics = false;
+        SchedulerParameters parameters = SchedulerParameters.DEFAULTS;
+    }
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        if (options.metrics) Metrics.setEnabled(true);
+        int failures = 0;
+        try {
+            List<Path> workloads = collectWorkloads(options.inputs);
+            Files.createDirectories(options.output);
+
+            try (Writer summary = Files.newBufferedWriter(options.output.resolve("summary.csv"), StandardCharsets.UTF_8)) {
+                summary.write("workload,algorithm,processes,avg_waiting,avg_turnaround,millis,optimality_gap\n");
+
+                for (Path workload : workloads) {
+                    try {
+                        runWorkload(workload, options, summary);
+                    } catch (IOException ex) {
+                        failures++;
+                        System.err.println("Failed: " + ex.getMessage());
+                    } catch (RuntimeException ex) {
+                        failures++;
+                        System.err.println("Failed: " + workload + ": " + ex);
+                    }
+                }
+            }
+            System.out.println("Scheduled " + (workloads.size() - failures) + " of " + workloads.size()
+                    + " workloads; results in " + options.output);
+            if (Metrics.isEnabled()) System.out.print(Metrics.report());
+        } catch (IOException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            System.exit(1);
+        }
+
+        if (failures > 0) System.exit(1);
+    }
+
+    static Options parse(String[] args) {
+        Options options = new Options();
+        SchedulerParameters.Builder parameters = SchedulerParameters.builder();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--algorithms":
+                    List<Scheduler> algorithms = new ArrayList<>();
+                    for (String name : value(args, ++i, arg).split(",")) {
+                        algorithms.add(SchedulerRegistry.get(name.trim()));
+                    }
+                    options.algorithms = algorithms;
+                    break;
+                case "--output": options.output = Paths.get(value(args, ++i, arg)); break;
+                case "--summary-only": options.summaryOnly = true; break;
+                case "--binary-results": options.binaryResults = true; break;
+                case "--metrics": options.metrics = true; break;
+                case "--convergence": parameters.convergenceSamples(intValue(args, ++i, arg)); break;
+                case "--cpus": parameters.cpuCount(intValue(args, ++i, arg)); break;
+                case "--quantum": parameters.timeQuantum(intValue(args, ++i, arg)); break;
+                case "--mlfq-quanta": parameters.mlfqQuanta(intList(args, ++i, arg)); break;
+                case "--mlfq-boost": parameters.mlfqBoostInterval(intValue(args, ++i, arg)); break;
+                case "--higher-first": parameters.lowerNumberHigherPriority(false); break;
+                case "--ants": parameters.numAnts(intValue(args, ++i, arg)); break;
+                case "--iterations": parameters.maxIterations(intValue(args, ++i, arg)); break;
+                case "--alpha": parameters.alpha(doubleValue(args, ++i, arg)); break;
+                case "--beta": parameters.beta(doubleValue(args, ++i, arg)); break;
+                case "--evaporation": parameters.evaporationRate(doubleValue(args, ++i, arg)); break;
+                case "--ga-elites": parameters.eliteCount(intValue(args, ++i, arg)); break;
+                case "--ga-cache": parameters.fitnessCacheSize(intValue(args, ++i, arg)); break;
+                case "--time-limit": parameters.timeLimitMillis(intValue(args, ++i, arg)); break;
+                case "--target-fitness": parameters.targetFitness(longValue(args, ++i, arg)); break;
+                case "--gap-tolerance": parameters.gapTolerance(doubleValue(args, ++i, arg)); break;
+                case "--no-lower-bound": parameters.stopAtLowerBound(false); break;
+                case "--no-seeding": parameters.heuristicSeeding(false); break;
+                case "--warm-start": parameters.warmStart(new WarmStartStore()); break;
+                case "--sa-chains":
+                    int chains = intValue(args, ++i, arg);
+                    parameters.temperingChains(chains == 0 ? Runtime.getRuntime().availableProcessors() : chains);
+                    break;
+                default:
+                    if (arg.startsWith("--")) throw new IllegalArgumentException("unknown option " + arg);
+                    options.inputs.add(Paths.get(arg));
+            }
+        }
+        if (options.inputs.isEmpty()) throw new IllegalArgumentException("no workload files given");
+        options.parameters = parameters.build();
+        return options;
+    }
+
+    private static String value(String[] args, int i, String option) {
+        if (i >= args.length) throw new IllegalArgumentException(option + " needs a value");
+        return args[i];
+    }
+
+    private static int intValue(String[] args, int i, String option) {
+        try {
+            return Integer.parseInt(value(args, i, option));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(option + " needs an integer value");
+        }
+    }
+
+    private static long longValue(String[] args, int i, String option) {
+        try {
+            return Long.parseLong(value(args, i, option));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(option + " needs an integer value");
+        }
+    }
+
+    private static int[] intList(String[] args, int i, String option) {
+        String[] items = value(args, i, option).split(",");
+        int[] values = new int[items.length];
+        try {
+            for (int k = 0; k < items.length; k++) values[k] = Integer.parseInt(items[k].trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(option + " needs a comma separated list of integers");
+        }
+        return values;
+    }
+
+    private static double doubleValue(String[] args, int i, String option) {
+        try {
+            return Double.parseDouble(value(args, i, option));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(option + " needs a numeric value");
+        }
+    }
+
+    // Expands directories into their .csv/.bin files, sorted by name
+    static List<Path> collectWorkloads(List<Path> inputs) throws IOException {
+        List<Path> workloads = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> files = Files.list(input)) {
+                    files.filter(Files::isRegularFile)
+                         .filter(f -> WorkloadIO.isBinary(f) || f.getFileName().toString().toLowerCase().endsWith(".csv"))
+                         .sorted()
+                         .forEach(workloads::add);
+                }
+            } else if (Files.isRegularFile(input)) {
+                workloads.add(input);
+            } else {
+                throw new NoSuchFileException(input.toString());
+            }
+        }
+        return workloads;
+    }
+
+    private static void runWorkload(Path workload, Options options, Writer summary) throws IOException {
+        ProcessTable table = WorkloadIO.read(workload);
+        String name = baseName(workload);
+        Path resultDir = options.output.resolve(name);
+        if (!options.summaryOnly) Files.createDirectories(resultDir);
+
+        for (Scheduler scheduler : options.algorithms) {
+            long start = System.nanoTime();
+            ScheduleResult result = scheduler.run(table, options.parameters);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            String algo = scheduler.name();
+            if (!options.summaryOnly) {
+                if (options.binaryResults) MappedTrace.writeResults(result, resultDir.resolve(algo + ".bin"));
+                else WorkloadIO.writeResultsCsv(result, resultDir.resolve(algo + ".csv"));
+                if (result.getSearchStats() != null && result.getSearchStats().getConvergence() != null) {
+                    WorkloadIO.writeConvergenceCsv(result.getSearchStats().getConvergence(),
+                            resultDir.resolve(algo + "-convergence.csv"));
+                }
+            }
+            SearchStats stats = result.getSearchStats();
+            summary.write(String.format(Locale.ROOT, "%s,%s,%d,%.4f,%.4f,%d,%s%n", name, algo, result.size(),
+                    result.getAverageWaitingTime(), result.getAverageTurnaroundTime(), millis,
+                    stats == null || stats.getLowerBound() == 0 ? "" : String.format(Locale.ROOT, "%.6f", stats.getOptimalityGap())));
+        }
+        summary.flush();
+    }
+
+    private static String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+}
@@ -0,0 +1,164 @@
+package util;
+
+import algorithm.CancellationToken;
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import model.ProcessTable;
+import util.SchedulerRunner.ResultSummary;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Runs several scheduling algorithms on the same workload at the same time,
+ * one worker thread each, and collects a ResultSummary per algorithm as soon
+ * as it finishes.
+ *
+ * All runs share the one workload table (schedulers never modify their input)
+ * and every algorithm has its own time limit.
+ * When the limit passes, the run's cancellation token is triggered so that a
+ * metaheuristic can still return its best schedule so far; a run that has not
+ * returned STOP_GRACE_MILLIS later is reported as timed out. An algorithm that
+ * throws is reported as a failed entry. Neither stops the others.
+ */
+public class ComparisonEngine {
+
+    private static final long STOP_GRACE_MILLIS = 1_000;
+
+    private static class Task {
+        final Scheduler scheduler;
+        final SchedulerParameters parameters;
+        final long timeLimitMillis;
+        final String name;
+
+        Task(Scheduler scheduler, SchedulerParameters parameters, long timeLimitMillis) {
+            this.scheduler = scheduler;
+            this.parameters = parameters;
+            this.timeLimitMillis = timeLimitMillis;
+            this.name = scheduler.displayName();
+        }
+    }
+
+    private final List<Task> tasks = new ArrayList<>();
+
+    // Tokens of the runs in progress, so another thread can stop them
+    private volatile CancellationToken[] activeTokens;
+    private volatile boolean cancelled;
+
+    // A time limit of 0 or less means no limit
+    public ComparisonEngine add(Scheduler scheduler, SchedulerParameters parameters, long timeLimitMillis) {
+        tasks.add(new Task(scheduler, parameters, timeLimitMillis));
+        return this;
+    }
+
+    // Asks every running algorithm to stop; searches still report their best schedule so far
+    public void cancel() {
+        cancelled = true;
+        CancellationToken[] tokens = activeTokens;
+        if (tokens == null) return;
+        for (CancellationToken token : tokens) token.cancel();
+    }
+
+    /*
+     * Runs every added algorithm and blocks until all have finished, failed or timed out.
+     * onComplete is called on the calling thread, in completion order; the returned list is
+     * in the order the algorithms were added.
+     */
+    public List<ResultSummary> run(ProcessTable workload, Consumer<ResultSummary> onComplete)
+            throws InterruptedException {
+        if (tasks.isEmpty()) return new ArrayList<>();
+
+        // Daemon workers so an algorithm that ignores cancellation cannot keep the JVM alive
+        ExecutorService pool = Executors.newFixedThreadPool(tasks.size(), runnable -> {
+            Thread thread = new Thread(runnable, "comparison-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<ResultSummary> completion = new ExecutorCompletionService<>(pool);
+
+        Map<Future<ResultSummary>, Integer> pending = new HashMap<>();
+        long[] deadlines = new long[tasks.size()];
+        CancellationToken[] tokens = new CancellationToken[tasks.size()];
+        ResultSummary[] results = new ResultSummary[tasks.size()];
+        for (int i = 0; i < tokens.length; i++) tokens[i] = new CancellationToken();
+        activeTokens = tokens;
+        if (cancelled) cancel();
+
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < tasks.size(); i++) {
+                Task task = tasks.get(i);
+                deadlines[i] = task.timeLimitMillis > 0
+                        ? start + TimeUnit.MILLISECONDS.toNanos(task.timeLimitMillis)
+                        : Long.MAX_VALUE;
+                CancellationToken token = tokens[i];
+                pending.put(completion.submit(() -> runTask(task, workload, token)), i);
+            }
+
+            while (!pending.isEmpty()) {
+                long nearest = Long.MAX_VALUE;
+                for (int i : pending.values()) nearest = Math.min(nearest, deadlines[i]);
+
+                Future<ResultSummary> done = nearest == Long.MAX_VALUE
+                        ? completion.take()
+                        : completion.poll(nearest - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                if (done != null) {
+                    Integer i = pending.remove(done);
+                    if (i == null) continue; // already reported as timed out
+                    results[i] = getDone(done, tasks.get(i));
+                    onComplete.accept(results[i]);
+                    continue;
+                }
+
+                long now = System.nanoTime();
+                for (Iterator<Map.Entry<Future<ResultSummary>, Integer>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+                    Map.Entry<Future<ResultSummary>, Integer> entry = it.next();
+                    int i = entry.getValue();
+                    if (deadlines[i] <= now && !tokens[i].isCancelled()) {
+                        tokens[i].cancel(); // ask for the best result so far
+                        deadlines[i] = now + TimeUnit.MILLISECONDS.toNanos(STOP_GRACE_MILLIS);
+                    } else if (deadlines[i] <= now) {
+                        entry.getKey().cancel(true);
+                        it.remove();
+                        Task task = tasks.get(i);
+                        results[i] = ResultSummary.failed(task.name,
+                                "timed out after " + task.timeLimitMillis + " ms", task.timeLimitMillis);
+                        onComplete.accept(results[i]);
+                    }
+                }
+            }
+        } finally {
+            activeTokens = null;
+            pool.shutdownNow();
+        }
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    private static ResultSummary runTask(Task task, ProcessTable workload, CancellationToken token) {
+        long start = System.nanoTime();
+        try {
+            ScheduleResult result = task.scheduler.run(workload, task.parameters, token);
+            return new ResultSummary(result, elapsedMillis(start));
+        } catch (RuntimeException | Error ex) {
+            return ResultSummary.failed(task.name, ex.toString(), elapsedMillis(start));
+        }
+    }
+
+    private static ResultSummary getDone(Future<ResultSummary> done, Task task) {
+        try {
+            return done.get(); // already complete, so this does not block
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return ResultSummary.failed(task.name, ex.toString(), 0);
+        } catch (ExecutionException | CancellationException ex) {
+            return ResultSummary.failed(task.name, ex.toString(), 0);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
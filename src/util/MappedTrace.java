@@ -0,0 +1,123 @@
+package util;
+
+import algorithm.ScheduleResult;
+import model.Process;
+import model.ProcessTable;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Read-only, memory-mapped view of a binary workload (the .bin format described
+ * in WorkloadIO). Nothing is parsed or copied when the trace is opened: every
+ * getter reads its field straight from the mapped file, and {@link #toTable()}
+ * fills the scheduler columns in a single sequential pass.
+ *
+ * Results are written back the same way, as a fixed-width mapped file:
+ *   header : magic "SCHR", version, process count          (3 x int32)
+ *   records: pid, completion, turnaround, waiting          (4 x int32 each, in row order)
+ *
+ * A single mapping is limited to 2 GB, i.e. about 134 million processes.
+ */
+public class MappedTrace {
+
+    public static final int RESULT_MAGIC = 0x53434852; // "SCHR"
+
+    private static final int HEADER_INTS = WorkloadIO.HEADER_BYTES / Integer.BYTES;
+    private static final int RECORD_INTS = WorkloadIO.RECORD_BYTES / Integer.BYTES;
+
+    private final IntBuffer records;
+    private final int size;
+
+    private MappedTrace(IntBuffer records, int size) {
+        this.records = records;
+        this.size = size;
+    }
+
+    public static MappedTrace open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < WorkloadIO.HEADER_BYTES) throw new IOException(file + ": truncated binary workload");
+            if (length > Integer.MAX_VALUE) throw new IOException(file + ": too large to map (over 2 GB)");
+
+            // The mapping stays valid after the channel is closed
+            IntBuffer ints = channel.map(FileChannel.MapMode.READ_ONLY, 0, length).asIntBuffer();
+            int count = WorkloadIO.readHeader(ints.get(0), ints.get(1), ints.get(2), file);
+            if (WorkloadIO.HEADER_BYTES + (long) count * WorkloadIO.RECORD_BYTES > length) {
+                throw new IOException(file + ": truncated binary workload");
+            }
+            return new MappedTrace(ints, count);
+        }
+    }
+
+    public int size() { return size; }
+
+    public int getPid(int row) { return records.get(HEADER_INTS + row * RECORD_INTS); }
+    public int getArrivalTime(int row) { return records.get(HEADER_INTS + row * RECORD_INTS + 1); }
+    public int getBurstTime(int row) { return records.get(HEADER_INTS + row * RECORD_INTS + 2); }
+    public int getPriority(int row) { return records.get(HEADER_INTS + row * RECORD_INTS + 3); }
+
+    // Scheduler columns filled by one sequential pass over the mapping
+    public ProcessTable toTable() {
+        ProcessTable table = new ProcessTable(size);
+        int at = HEADER_INTS;
+        for (int i = 0; i < size; i++, at += RECORD_INTS) {
+            table.set(i, records.get(at), records.get(at + 1), records.get(at + 2), records.get(at + 3));
+        }
+        return table;
+    }
+
+    // Adapter for List<Process> consumers: each Process is created only when it is read
+    public List<Process> asList() {
+        return new AbstractList<Process>() {
+            @Override
+            public Process get(int row) {
+                if (row < 0 || row >= size) throw new IndexOutOfBoundsException("row " + row);
+                return new Process(getPid(row), getArrivalTime(row), getBurstTime(row), getPriority(row));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // ===== Writers =====
+
+    // Writes the input columns of a table in the .bin workload format
+    public static void writeWorkload(ProcessTable table, Path file) throws IOException {
+        IntBuffer out = mapForWrite(file, table.size());
+        out.put(WorkloadIO.MAGIC).put(WorkloadIO.VERSION).put(table.size());
+        for (int i = 0; i < table.size(); i++) {
+            out.put(table.getPid(i)).put(table.getArrivalTime(i)).put(table.getBurstTime(i)).put(table.getPriority(i));
+        }
+    }
+
+    // Writes the per-process timings of a result in the fixed-width result format
+    public static void writeResults(ScheduleResult result, Path file) throws IOException {
+        IntBuffer out = mapForWrite(file, result.size());
+        out.put(RESULT_MAGIC).put(WorkloadIO.VERSION).put(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            out.put(result.getPid(i)).put(result.getCompletionTime(i))
+               .put(result.getTurnaroundTime(i)).put(result.getWaitingTime(i));
+        }
+    }
+
+    private static IntBuffer mapForWrite(Path file, int count) throws IOException {
+        long length = WorkloadIO.HEADER_BYTES + (long) count * WorkloadIO.RECORD_BYTES;
+        if (length > Integer.MAX_VALUE) throw new IOException(file + ": too large to map (over 2 GB)");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            return buffer.asIntBuffer();
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package util;
 
 import model.Process;
+import model.ProcessTable;
+import algorithm.ScheduleResult;
+import algorithm.Scheduler;
+import algorithm.SchedulerParameters;
+import algorithm.SchedulerRegistry;
+import algorithm.SearchStats;
 import algorithm.traditional.FCFS;
 import algorithm.traditional.SJF;
+import algorithm.traditional.SRTF;
+import algorithm.traditional.MLFQ;
 import algorithm.traditional.RR;
 import algorithm.traditional.PriorityPreemptive;
 import algorithm.traditional.PriorityNonPreemptive;
@@ -12,6 +20,7 @@ import algorithm.metaheuristic.GA;
 import algorithm.metaheuristic.SA;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 public class SchedulerRunner {
 
@@ -69,107 +78,144 @@ public class SchedulerRunner {
         System.out.print("Evaporation Rate: ");
         double evaporationRate = sc.nextDouble();
 
-        // To store summary results (algorithm name, avg WT, avg TAT)
-        List<ResultSummary> summaries = new ArrayList<>();
-
-        // ======= FCFS =======
-        List<Process> fcfsList = deepCopy(originalProcesses, includePriority);
-        FCFS.schedule(fcfsList);
-        FCFS.printResults(fcfsList);
-        summaries.add(new ResultSummary("FCFS", fcfsList));
-
-        // ======= SJF =======
-        List<Process> sjfList = deepCopy(originalProcesses, includePriority);
-        SJF.schedule(sjfList);
-        SJF.printResults(sjfList);
-        summaries.add(new ResultSummary("SJF", sjfList));
-
-        // ======= RR =======
-        List<Process> rrList = deepCopy(originalProcesses, includePriority);
-        RR.schedule(rrList, timeQuantum);
-        RR.printResults(rrList);
-        summaries.add(new ResultSummary("Round Robin", rrList));
-
-        // ======= Priority Non-Preemptive =======
-        if (includePriority) {
-            List<Process> prNonPreemptList = deepCopy(originalProcesses, true);
-            PriorityNonPreemptive.schedule(prNonPreemptList, lowerNumberHigherPriority);
-            PriorityNonPreemptive.printResults(prNonPreemptList);
-            summaries.add(new ResultSummary("Priority Non-Preemptive", prNonPreemptList));
+        System.out.print("Time limit per algorithm in seconds (0 = no limit): ");
+        long timeLimitMillis = sc.nextLong() * 1000;
+
+        SchedulerParameters parameters = SchedulerParameters.builder()
+                .timeQuantum(timeQuantum)
+                .lowerNumberHigherPriority(lowerNumberHigherPriority)
+                .numAnts(numAnts)
+                .maxIterations(numIterations)
+                .alpha(alpha)
+                .beta(beta)
+                .evaporationRate(evaporationRate)
+                .build();
+
+        // All algorithms run at the same time on one shared, unmodified workload
+        // Results are labelled with display names; printers are looked up by Scheduler.name()
+        ComparisonEngine engine = new ComparisonEngine();
+        Map<String, String> schedulerNames = new HashMap<>();
+        for (Scheduler scheduler : SchedulerRegistry.all()) {
+            if (scheduler.usesPriority() && !includePriority) continue;
+            engine.add(scheduler, parameters, timeLimitMillis);
+            schedulerNames.put(scheduler.displayName(), scheduler.name());
         }
 
-        // ======= Priority Preemptive =======
-        if (includePriority) {
-            List<Process> prPreemptList = deepCopy(originalProcesses, true);
-            PriorityPreemptive.schedule(prPreemptList, lowerNumberHigherPriority);
-            PriorityPreemptive.printResults(prPreemptList);
-            summaries.add(new ResultSummary("Priority Preemptive", prPreemptList));
+        // Detailed per-process output, keyed by Scheduler.name()
+        Map<String, Consumer<List<Process>>> printers = new HashMap<>();
+        printers.put("FCFS", FCFS::printResults);
+        printers.put("SJF", SJF::printResults);
+        printers.put("SRTF", SRTF::printResults);
+        printers.put("RR", RR::printResults);
+        printers.put("PNP", PriorityNonPreemptive::printResults);
+        printers.put("PP", PriorityPreemptive::printResults);
+        printers.put("MLFQ", MLFQ::printResults);
+        printers.put("ACO", ACO::printResults);
+        printers.put("GA", GA::printResults);
+        printers.put("SA", SA::printResults);
+
+        // Print each algorithm's results as soon as it finishes
+        List<ResultSummary> summaries;
+        try {
+            summaries = engine.run(ProcessTable.fromList(originalProcesses), res -> {
+                if (res.failed()) {
+                    System.out.println("\n" + res.algorithmName + " failed: " + res.error);
+                    return;
+                }
+                // A scheduler without its own printer still gets the per-process table
+                Consumer<List<Process>> printer = printers.getOrDefault(schedulerNames.get(res.algorithmName),
+                        processes -> printResults(res.algorithmName, processes));
+                printer.accept(res.result.toProcessList());
+                System.out.println(res.algorithmName + " finished in " + res.millis + " ms");
+            });
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            sc.close();
+            return;
         }
 
-        // ======= ACO =======
-        List<Process> acoList = deepCopy(originalProcesses, includePriority);
-        ACO.schedule(acoList, numAnts, numIterations, alpha, beta, evaporationRate);
-        ACO.printResults(acoList);
-        summaries.add(new ResultSummary("ACO", acoList));
-
-        // ======= GA =======
-        List<Process> gaList = deepCopy(originalProcesses, includePriority);
-        GA.schedule(gaList);
-        GA.printResults(gaList);
-        summaries.add(new ResultSummary("GA", gaList));
-
-        // ======= SA =======
-        List<Process> saList = deepCopy(originalProcesses, includePriority);
-        SA.schedule(saList);
-        SA.printResults(saList);
-        summaries.add(new ResultSummary("SA", saList));
-
         // Print comparison table
-        System.out.println("\n================ Scheduling Algorithms Comparison ================");
-        System.out.printf("%-25s %-20s %-20s\n", "Algorithm", "Avg Waiting Time", "Avg Turnaround Time");
-        System.out.println("-----------------------------------------------------------------");
+        System.out.println("\n=========================== Scheduling Algorithms Comparison ===========================");
+        System.out.printf("%-25s %-20s %-20s %-12s %s\n", "Algorithm", "Avg Waiting Time", "Avg Turnaround Time", "Time (ms)", "Status");
+        System.out.println("----------------------------------------------------------------------------------------");
 
         ResultSummary best = null;
         for (ResultSummary res : summaries) {
-            System.out.printf("%-25s %-20.2f %-20.2f\n", res.algorithmName, res.avgWaitingTime, res.avgTurnaroundTime);
+            if (res.failed()) {
+                System.out.printf("%-25s %-20s %-20s %-12d %s\n", res.algorithmName, "-", "-", res.millis, "FAILED: " + res.error);
+                continue;
+            }
+            System.out.printf("%-25s %-20.2f %-20.2f %-12d %s\n", res.algorithmName, res.avgWaitingTime, res.avgTurnaroundTime, res.millis, res.status());
             if (best == null || res.avgWaitingTime < best.avgWaitingTime) {
                 best = res;
             }
         }
 
-        System.out.println("-----------------------------------------------------------------");
-        System.out.println("Best Performing Algorithm (lowest Avg Waiting Time): " + best.algorithmName);
+        System.out.println("----------------------------------------------------------------------------------------");
+        if (best != null) {
+            System.out.println("Best Performing Algorithm (lowest Avg Waiting Time): " + best.algorithmName);
+        }
 
         sc.close();
     }
 
-    // Updated deepCopy to handle priority
-    private static List<Process> deepCopy(List<Process> original, boolean withPriority) {
-        List<Process> copy = new ArrayList<>();
-        for (Process p : original) {
-            if (withPriority)
-                copy.add(new Process(p.getPid(), p.getArrivalTime(), p.getBurstTime(), p.getPriority()));
-            else
-                copy.add(new Process(p.getPid(), p.getArrivalTime(), p.getBurstTime()));
+    private static void printResults(String algorithmName, List<Process> processes) {
+        System.out.println("\n" + algorithmName + " Scheduling Results:");
+        System.out.println("PID\tAT\tBT\tCT\tTAT\tWT");
+
+        int totalWT = 0, totalTAT = 0;
+
+        for (Process p : processes) {
+            System.out.println(p.getPid() + "\t" + p.getArrivalTime() + "\t" + p.getBurstTime() + "\t" +
+                               p.getCompletionTime() + "\t" + p.getTurnaroundTime() + "\t" + p.getWaitingTime());
+            totalWT += p.getWaitingTime();
+            totalTAT += p.getTurnaroundTime();
         }
-        return copy;
+
+        System.out.printf("Average Waiting Time: %.2f\n", (float) totalWT / processes.size());
+        System.out.printf("Average Turnaround Time: %.2f\n", (float) totalTAT / processes.size());
     }
 
     // Helper class to store summary of results
-    static class ResultSummary {
-        String algorithmName;
-        float avgWaitingTime;
-        float avgTurnaroundTime;
+    public static class ResultSummary {
+        public final String algorithmName;
+        public final float avgWaitingTime;
+        public final float avgTurnaroundTime;
+        public final long millis;             // wall-clock run time
+        public final String error;            // null unless the run failed or timed out
+        public final ScheduleResult result;   // null if the run failed or timed out
+
+        public ResultSummary(ScheduleResult result, long millis) {
+            this.algorithmName = result.getAlgorithmName();
+            this.avgWaitingTime = (float) result.getAverageWaitingTime();
+            this.avgTurnaroundTime = (float) result.getAverageTurnaroundTime();
+            this.millis = millis;
+            this.error = null;
+            this.result = result;
+        }
 
-        ResultSummary(String name, List<Process> processes) {
+        private ResultSummary(String name, String error, long millis) {
             this.algorithmName = name;
-            int totalWT = 0, totalTAT = 0;
-            for (Process p : processes) {
-                totalWT += p.getWaitingTime();
-                totalTAT += p.getTurnaroundTime();
-            }
-            this.avgWaitingTime = (float) totalWT / processes.size();
-            this.avgTurnaroundTime = (float) totalTAT / processes.size();
+            this.avgWaitingTime = Float.NaN;
+            this.avgTurnaroundTime = Float.NaN;
+            this.millis = millis;
+            this.error = error;
+            this.result = null;
+        }
+
+        public static ResultSummary failed(String name, String error, long millis) {
+            return new ResultSummary(name, error, millis);
+        }
+
+        public boolean failed() {
+            return error != null;
+        }
+
+        // "OK" for a complete run, otherwise why a search stopped early (failures aside)
+        public String status() {
+            SearchStats stats = result == null ? null : result.getSearchStats();
+            if (stats == null || stats.getStopReason() == SearchStats.StopReason.COMPLETED) return "OK";
+            return "Stopped early (" + stats.getStopReason() + ", " + stats.getEvaluations() + " evaluations)";
         }
     }
 }
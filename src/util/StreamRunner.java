@@ -0,0 +1,96 @@
+package util;
+
+import algorithm.SchedulerParameters;
+import algorithm.online.OnlineScheduler;
+import algorithm.online.ScheduleEvent;
+import model.Process;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * Online scheduling from the command line: reads arriving processes as CSV
+ * lines (pid,arrival,burst[,priority], in arrival order) from a file or from
+ * standard input, and prints every dispatch and completion as soon as it is
+ * decided. Lines can keep coming through a pipe; nothing but the processes
+ * currently in the system is kept in memory.
+ */
+public class StreamRunner {
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java util.StreamRunner [options] [workload.csv]",
+            "",
+            "Reads standard input when no file is given.",
+            "",
+            "Options:",
+            "  --algorithm NAME    FCFS, SJF, RR, PNP or PP (default: FCFS)",
+            "  --quantum N         Round Robin time quantum (default: 2)",
+            "  --higher-first      higher priority number = higher priority (default: lower first)",
+            "  --completions-only  print completions but not dispatches");
+
+    public static void main(String[] args) {
+        String algorithm = "FCFS";
+        String input = null;
+        boolean completionsOnly = false;
+        SchedulerParameters.Builder parameters = SchedulerParameters.builder();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--algorithm": algorithm = value(args, ++i); break;
+                    case "--quantum": parameters.timeQuantum(Integer.parseInt(value(args, ++i))); break;
+                    case "--higher-first": parameters.lowerNumberHigherPriority(false); break;
+                    case "--completions-only": completionsOnly = true; break;
+                    default:
+                        if (args[i].startsWith("--") || input != null) {
+                            throw new IllegalArgumentException("unexpected argument " + args[i]);
+                        }
+                        input = args[i];
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+        boolean printDispatches = !completionsOnly;
+        OnlineScheduler scheduler;
+        try {
+            scheduler = OnlineScheduler.of(algorithm, parameters.build(), event -> {
+                if (printDispatches || event.getType() == ScheduleEvent.Type.COMPLETION) out.println(event);
+            });
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        try (InputStream in = input == null ? System.in : Files.newInputStream(Paths.get(input))) {
+            Iterator<Process> arrivals = WorkloadIO.csvArrivals(in, input == null ? "stdin" : input);
+            while (arrivals.hasNext()) {
+                scheduler.submit(arrivals.next());
+                out.flush(); // show decisions as they are made
+            }
+            scheduler.close();
+        } catch (IOException | UncheckedIOException | IllegalArgumentException ex) {
+            out.flush();
+            System.err.println("Error: " + ex.getMessage());
+            System.exit(1);
+        }
+
+        out.printf(Locale.ROOT, "Completed %d processes, average waiting %.2f, average turnaround %.2f%n",
+                scheduler.getCompletedCount(), scheduler.getAverageWaitingTime(), scheduler.getAverageTurnaroundTime());
+        out.flush();
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) throw new IllegalArgumentException(args[i - 1] + " needs a value");
+        return args[i];
+    }
+}
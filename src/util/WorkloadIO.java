@@ -0,0 +1,259 @@
+package util;
+
+import algorithm.ConvergenceCurve;
+import algorithm.ScheduleResult;
+import model.Process;
+import model.ProcessTable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads workloads from files and writes scheduling results back out.
+ *
+ * CSV workloads have one process per line: pid,arrival,burst[,priority].
+ * Blank lines, lines starting with '#' and a leading header line are skipped;
+ * a missing priority defaults to 0. Any other text, or a value that does not
+ * fit in an int, is an error reported with its line number, and so is a file
+ * without a single process.
+ *
+ * Binary workloads (.bin) are fixed width and big-endian:
+ *   header : magic "SCHD", version, process count   (3 x int32)
+ *   records: pid, arrival, burst, priority           (4 x int32 each)
+ * and are read and written through MappedTrace.
+ */
+public class WorkloadIO {
+
+    public static final int MAGIC = 0x53434844; // "SCHD"
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 12;
+    public static final int RECORD_BYTES = 16;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    public static ProcessTable read(Path file) throws IOException {
+        return isBinary(file) ? readBinary(file) : readCsv(file);
+    }
+
+    public static boolean isBinary(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".bin");
+    }
+
+    // ===== CSV =====
+
+    public static ProcessTable readCsv(Path file) throws IOException {
+        IntColumns columns = new IntColumns();
+        try (InputStream in = Files.newInputStream(file)) {
+            CsvParser parser = new CsvParser(in, file.toString());
+            int[] fields = new int[4];
+            int count;
+            while ((count = parser.nextLine(fields)) >= 0) {
+                if (count == 0) continue; // blank, comment or header
+                if (count < 3) {
+                    throw new IOException(file + ":" + parser.lineNo + ": expected pid,arrival,burst[,priority]");
+                }
+                columns.add(fields[0], fields[1], fields[2], count > 3 ? fields[3] : 0);
+            }
+        }
+        ProcessTable table = columns.toTable();
+        if (table.size() == 0) throw new IOException(file + ": no processes");
+        return table;
+    }
+
+    /*
+     * Processes read lazily from a CSV stream, one line at a time, for online scheduling of
+     * input that is still being written (e.g. a pipe). Read errors surface as UncheckedIOException.
+     */
+    public static Iterator<Process> csvArrivals(InputStream in, String source) {
+        CsvParser parser = new CsvParser(in, source);
+        int[] fields = new int[4];
+        return new Iterator<Process>() {
+            private Process next;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (next == null && !done) {
+                        int count = parser.nextLine(fields);
+                        if (count < 0) {
+                            done = true;
+                        } else if (count > 0 && count < 3) {
+                            throw new IOException(source + ":" + parser.lineNo + ": expected pid,arrival,burst[,priority]");
+                        } else if (count > 0) {
+                            next = new Process(fields[0], fields[1], fields[2], count > 3 ? fields[3] : 0);
+                        }
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return next != null;
+            }
+
+            @Override
+            public Process next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Process process = next;
+                next = null;
+                return process;
+            }
+        };
+    }
+
+    /*
+     * Byte-level parser for comma separated integers over its own chunk buffer: no String,
+     * split() or synchronized read() per byte. nextLine returns the number of fields read,
+     * 0 for lines to skip, or -1 at end of input. Text is only skipped on the first line that
+     * is neither blank nor a comment, where it is taken for the header.
+     */
+    private static class CsvParser {
+        private final InputStream in;
+        private final String source;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int pos = 0;
+        private int limit = 0;
+        private boolean started = false; // a header or data line has been read
+        int lineNo = 0;
+
+        CsvParser(InputStream in, String source) {
+            this.in = in;
+            this.source = source;
+        }
+
+        private int read() throws IOException {
+            if (pos == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                pos = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[pos++] & 0xFF;
+        }
+
+        int nextLine(int[] fields) throws IOException {
+            int b = read();
+            if (b == -1) return -1;
+            lineNo++;
+
+            int count = 0;
+            while (b != -1 && b != '\n') {
+                if (b == ' ' || b == '\t' || b == '\r' || b == ',') {
+                    b = read();
+                } else if (b == '-' || (b >= '0' && b <= '9')) {
+                    boolean negative = b == '-';
+                    if (negative) b = read();
+                    int value = 0;
+                    while (b >= '0' && b <= '9') {
+                        int digit = b - '0';
+                        if (value > (Integer.MAX_VALUE - digit) / 10) {
+                            throw new IOException(source + ":" + lineNo + ": malformed value (out of range)");
+                        }
+                        value = value * 10 + digit;
+                        b = read();
+                    }
+                    if (count < fields.length) fields[count] = negative ? -value : value;
+                    count++;
+                } else if (b == '#' || (count == 0 && !started)) {
+                    // Comment, or the header: ignore the rest of the line
+                    if (b != '#') started = true;
+                    while (b != -1 && b != '\n') b = read();
+                } else {
+                    throw new IOException(source + ":" + lineNo + ": malformed value");
+                }
+            }
+            if (count > 0) started = true;
+            return count;
+        }
+    }
+
+    // ===== Binary =====
+
+    // Loaded through a memory mapping: no parsing and no per-process objects
+    public static ProcessTable readBinary(Path file) throws IOException {
+        return MappedTrace.open(file).toTable();
+    }
+
+    public static void writeBinary(ProcessTable table, Path file) throws IOException {
+        MappedTrace.writeWorkload(table, file);
+    }
+
+    // Validates a binary header and returns the process count
+    static int readHeader(int magic, int version, int count, Path file) throws IOException {
+        if (magic != MAGIC) throw new IOException(file + ": not a binary workload (bad magic)");
+        if (version != VERSION) throw new IOException(file + ": unsupported binary workload version " + version);
+        if (count < 0) throw new IOException(file + ": negative process count");
+        return count;
+    }
+
+    // ===== Results =====
+
+    // One line per process in execution order
+    public static void writeResultsCsv(ScheduleResult result, Path file) throws IOException {
+        try (Writer out = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            boolean cpuColumn = result.getCpuCount() > 1;
+            out.write(cpuColumn ? "pid,arrival,burst,priority,completion,turnaround,waiting,cpu\n"
+                    : "pid,arrival,burst,priority,completion,turnaround,waiting\n");
+            StringBuilder line = new StringBuilder(64);
+            for (int k = 0; k < result.size(); k++) {
+                int row = result.getOrder(k);
+                line.setLength(0);
+                line.append(result.getPid(row)).append(',')
+                    .append(result.getArrivalTime(row)).append(',')
+                    .append(result.getBurstTime(row)).append(',')
+                    .append(result.getPriority(row)).append(',')
+                    .append(result.getCompletionTime(row)).append(',')
+                    .append(result.getTurnaroundTime(row)).append(',')
+                    .append(result.getWaitingTime(row));
+                if (cpuColumn) line.append(',').append(result.getCpu(row));
+                out.append(line).append('\n');
+            }
+        }
+    }
+
+    // One line per recorded iteration: step,best,mean
+    public static void writeConvergenceCsv(ConvergenceCurve curve, Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("step,best,mean\n");
+            for (int i = 0; i < curve.size(); i++) {
+                out.write(String.format(Locale.ROOT, "%d,%d,%.2f%n", curve.getStep(i), curve.getBestFitness(i),
+                        curve.getMeanFitness(i)));
+            }
+        }
+    }
+
+    // Growable primitive columns for inputs whose size is not known up front
+    private static class IntColumns {
+        int size = 0;
+        int[] pid = new int[1024], arrival = new int[1024], burst = new int[1024], priority = new int[1024];
+
+        void add(int p, int at, int bt, int pr) {
+            if (size == pid.length) {
+                int capacity = size * 2;
+                pid = Arrays.copyOf(pid, capacity);
+                arrival = Arrays.copyOf(arrival, capacity);
+                burst = Arrays.copyOf(burst, capacity);
+                priority = Arrays.copyOf(priority, capacity);
+            }
+            pid[size] = p;
+            arrival[size] = at;
+            burst[size] = bt;
+            priority[size] = pr;
+            size++;
+        }
+
+        ProcessTable toTable() {
+            ProcessTable table = new ProcessTable(size);
+            for (int i = 0; i < size; i++) table.set(i, pid[i], arrival[i], burst[i], priority[i]);
+            return table;
+        }
+    }
+}